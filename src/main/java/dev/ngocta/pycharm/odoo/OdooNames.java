@@ -6,6 +6,9 @@ public class OdooNames {
     public static final String MANIFEST_DATA = "data";
     public static final String MANIFEST_DEMO = "demo";
     public static final String MANIFEST_QWEB = "qweb";
+    public static final String MANIFEST_ASSETS = "assets";
+    public static final String MANIFEST_INSTALLABLE = "installable";
+    public static final String MANIFEST_AUTO_INSTALL = "auto_install";
     public static final String ODOO_ADDONS = "odoo.addons";
     public static final String MODEL_NAME = "_name";
     public static final String MODEL_INHERIT = "_inherit";
@@ -63,6 +66,9 @@ public class OdooNames {
     public static final String FIELD_ATTR_CURRENCY_FIELD = "currency_field";
     public static final String FIELD_ATTR_DOMAIN = "domain";
     public static final String FIELD_ATTR_GROUPS = "groups";
+    public static final String FIELD_ATTR_STORE = "store";
+    public static final String FIELD_ATTR_INDEX = "index";
+    public static final String FIELD_ATTR_REQUIRED = "required";
     public static final String MAPPED = "mapped";
     public static final String FILTERED = "filtered";
     public static final String SORTED = "sorted";
@@ -2,7 +2,6 @@ package dev.ngocta.pycharm.odoo.csv;
 
 import com.intellij.openapi.fileEditor.OpenFileDescriptor;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.util.Ref;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.pom.Navigatable;
@@ -20,13 +19,16 @@ public class OdooCsvRecord extends FakePsiElement implements Navigatable {
     private final VirtualFile myFile;
     private final Project myProject;
     private final String myId;
+    private final int myOffset;
 
     public OdooCsvRecord(@NotNull VirtualFile file,
                          @NotNull Project project,
-                         @NotNull String id) {
+                         @NotNull String id,
+                         int offset) {
         myFile = file;
         myProject = project;
         myId = id;
+        myOffset = offset;
     }
 
     @Override
@@ -78,29 +80,37 @@ public class OdooCsvRecord extends FakePsiElement implements Navigatable {
 
     @Override
     public void navigate(boolean requestFocus) {
-        OdooCsvUtils.processRecordInCsvFile(myFile, myProject, (record, csvRecord) -> {
-            if (myId.equals(record.getId())) {
-                Navigatable navigatable = (new OpenFileDescriptor(myProject, myFile, (int) csvRecord.getParser().getCurrentLineNumber() - 1, 0));
-                navigatable.navigate(requestFocus);
-                return false;
-            }
-            return true;
-        });
+        if (myOffset >= 0) {
+            new OpenFileDescriptor(myProject, myFile, myOffset).navigate(requestFocus);
+            return;
+        }
+        OdooCsvUtils.RecordPosition position = getPosition();
+        if (position != null) {
+            new OpenFileDescriptor(myProject, myFile, position.getLine(), 0).navigate(requestFocus);
+        }
     }
 
     @Override
     @Nullable
     public TextRange getTextRange() {
-        Ref<TextRange> rangeRef = Ref.create();
-        OdooCsvUtils.processRecordInCsvFile(myFile, myProject, (record, csvRecord) -> {
-            if (myId.equals(record.getId())) {
-                int start = (int) csvRecord.getCharacterPosition();
-                rangeRef.set(new TextRange(start, start));
-                return false;
+        int offset = myOffset;
+        if (offset < 0) {
+            OdooCsvUtils.RecordPosition position = getPosition();
+            if (position == null) {
+                return null;
             }
-            return true;
-        });
-        return rangeRef.get();
+            offset = position.getOffset();
+        }
+        return new TextRange(offset, offset);
+    }
+
+    @Nullable
+    private OdooCsvUtils.RecordPosition getPosition() {
+        PsiFile file = getContainingFile();
+        if (file == null) {
+            return null;
+        }
+        return OdooCsvUtils.getRecordPositions(file).get(myId);
     }
 
     @Override
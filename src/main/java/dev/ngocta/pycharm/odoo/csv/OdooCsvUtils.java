@@ -1,7 +1,11 @@
 package dev.ngocta.pycharm.odoo.csv;
 
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.util.PairProcessor;
 import dev.ngocta.pycharm.odoo.data.OdooRecord;
 import dev.ngocta.pycharm.odoo.python.module.OdooModule;
@@ -11,7 +15,9 @@ import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 public class OdooCsvUtils {
     private OdooCsvUtils() {
@@ -24,14 +30,14 @@ public class OdooCsvUtils {
 
     public static void processRecordInCsvFile(@NotNull VirtualFile file,
                                               @NotNull Project project,
+                                              @NotNull CharSequence content,
                                               @NotNull PairProcessor<OdooRecord, CSVRecord> processor) {
         OdooModule module = OdooModuleUtils.getContainingOdooModule(file, project);
         if (module == null) {
             return;
         }
         try {
-            InputStream inputStream = file.getInputStream();
-            CSVParser parser = CSVParser.parse(inputStream, file.getCharset(), CSVFormat.DEFAULT.withHeader());
+            CSVParser parser = CSVParser.parse(content.toString(), CSVFormat.DEFAULT.withHeader());
             if (!parser.getHeaderNames().contains("id")) {
                 return;
             }
@@ -40,7 +46,7 @@ public class OdooCsvUtils {
             for (CSVRecord csvRecord : parser) {
                 String id = csvRecord.get("id");
                 if (id != null) {
-                    OdooRecord record = new OdooRecord(id, model, moduleName, null, file);
+                    OdooRecord record = new OdooRecord(id, model, moduleName, null, file, (int) csvRecord.getCharacterPosition());
                     if (!processor.process(record, csvRecord)) {
                         break;
                     }
@@ -49,4 +55,45 @@ public class OdooCsvUtils {
         } catch (Exception ignored) {
         }
     }
+
+    @NotNull
+    public static Map<String, RecordPosition> getRecordPositions(@NotNull PsiFile file) {
+        return CachedValuesManager.getCachedValue(file, () -> {
+            VirtualFile virtualFile = file.getVirtualFile();
+            if (virtualFile == null) {
+                return CachedValueProvider.Result.create(Collections.emptyMap(), file);
+            }
+            CharSequence content = file.getViewProvider().getContents();
+            Map<String, RecordPosition> positions = new HashMap<>();
+            int[] line = {0};
+            int[] lastOffset = {0};
+            processRecordInCsvFile(virtualFile, file.getProject(), content, (record, csvRecord) -> {
+                int offset = record.getOffset();
+                line[0] += StringUtil.countNewLines(content.subSequence(lastOffset[0], offset));
+                lastOffset[0] = offset;
+                positions.putIfAbsent(record.getId(), new RecordPosition(offset, line[0]));
+                return true;
+            });
+            return CachedValueProvider.Result.create(positions, file);
+        });
+    }
+
+    public static class RecordPosition {
+        private final int myOffset;
+        private final int myLine;
+
+        private RecordPosition(int offset,
+                               int line) {
+            myOffset = offset;
+            myLine = line;
+        }
+
+        public int getOffset() {
+            return myOffset;
+        }
+
+        public int getLine() {
+            return myLine;
+        }
+    }
 }
@@ -17,11 +17,8 @@ public class OdooExternalIdGotoContributor implements ChooseByNameContributorEx
     public void processNames(@NotNull Processor<? super String> processor,
                              @NotNull GlobalSearchScope scope,
                              @Nullable IdFilter filter) {
-        Project project = scope.getProject();
-        if (project != null) {
-            Collection<String> ids = OdooExternalIdIndex.getAllIds(project, scope);
-            ids.forEach(processor::process);
-        }
+        Collection<String> ids = OdooExternalIdIndex.getAllIds(scope, filter);
+        ids.forEach(processor::process);
     }
 
     @Override
@@ -3,37 +3,28 @@ package dev.ngocta.pycharm.odoo.data;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiManager;
 import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.psi.xml.XmlFile;
-import com.intellij.util.ArrayUtil;
 import com.intellij.util.Processor;
 import com.intellij.util.indexing.*;
 import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
-import com.jetbrains.python.psi.PyClass;
-import com.jetbrains.python.psi.PyElementVisitor;
-import com.jetbrains.python.psi.PyFile;
 import dev.ngocta.pycharm.odoo.OdooNames;
 import dev.ngocta.pycharm.odoo.csv.OdooCsvUtils;
-import dev.ngocta.pycharm.odoo.python.model.OdooModelInfo;
-import dev.ngocta.pycharm.odoo.python.model.OdooModelUtils;
+import dev.ngocta.pycharm.odoo.python.model.OdooPyFileSummary;
+import dev.ngocta.pycharm.odoo.python.model.OdooPyFileSummaryIndex;
 import dev.ngocta.pycharm.odoo.python.module.OdooModule;
 import dev.ngocta.pycharm.odoo.python.module.OdooModuleUtils;
-import dev.ngocta.pycharm.odoo.xml.OdooXmlUtils;
-import dev.ngocta.pycharm.odoo.xml.dom.OdooDomDataFile;
-import dev.ngocta.pycharm.odoo.xml.dom.OdooDomRecordLike;
+import dev.ngocta.pycharm.odoo.xml.OdooXmlFileSummary;
+import dev.ngocta.pycharm.odoo.xml.OdooXmlFileSummaryIndex;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.io.DataInput;
-import java.io.DataOutput;
-import java.io.IOException;
 import java.util.*;
 
 public class OdooExternalIdIndex extends FileBasedIndexExtension<String, OdooRecord> {
     public static final ID<String, OdooRecord> NAME = ID.create("odoo.external.id");
+    private static final String MODULE_KEY_PREFIX = "module:";
 
     @NotNull
     @Override
@@ -53,43 +44,15 @@ public class OdooExternalIdIndex extends FileBasedIndexExtension<String, OdooRec
                 return result;
             }
             List<OdooRecord> records = new LinkedList<>();
-            PsiFile psiFile = PsiManager.getInstance(project).findFile(file);
-            if (psiFile instanceof XmlFile) {
-                OdooDomDataFile root = OdooXmlUtils.getOdooDataDomFile(psiFile);
-                if (root == null) {
-                    return result;
-                }
-                List<OdooDomRecordLike> items = root.getAllRecordLikeItems();
-                for (OdooDomRecordLike item : items) {
-                    OdooRecord record = item.getRecord();
-                    if (record != null) {
-                        String id = record.getQualifiedId().trim();
-                        if (!id.isEmpty()) {
-                            records.add(record);
-                        }
-                    }
-                }
-            } else if (OdooCsvUtils.isCsvFile(file)) {
-                OdooCsvUtils.processRecordInCsvFile(file, project, (record, csvRecord) -> {
+            if (OdooCsvUtils.isCsvFile(file)) {
+                OdooCsvUtils.processRecordInCsvFile(file, project, inputData.getContentAsText(), (record, csvRecord) -> {
                     records.add(record);
                     return true;
                 });
-            } else if (psiFile instanceof PyFile) {
-                psiFile.acceptChildren(new PyElementVisitor() {
-                    @Override
-                    public void visitPyClass(PyClass cls) {
-                        super.visitPyClass(cls);
-                        OdooModelInfo info = OdooModelInfo.getInfo(cls);
-                        if (info != null) {
-                            String id = OdooModelUtils.getExternalIdOfModel(info.getName());
-                            OdooRecord record = new OdooRecord(id, OdooNames.IR_MODEL, moduleDirectory.getName(), null, null);
-                            records.add(record);
-                        }
-                    }
-                });
             }
             for (OdooRecord record : records) {
                 result.put(record.getQualifiedId(), record.withoutDataFile());
+                result.put(MODULE_KEY_PREFIX + record.getOriginModule(), record.withoutDataFile());
             }
             return result;
         };
@@ -104,38 +67,12 @@ public class OdooExternalIdIndex extends FileBasedIndexExtension<String, OdooRec
     @NotNull
     @Override
     public DataExternalizer<OdooRecord> getValueExternalizer() {
-        return new DataExternalizer<OdooRecord>() {
-            @Override
-            public void save(@NotNull DataOutput out,
-                             OdooRecord value) throws IOException {
-                out.writeUTF(value.getId());
-                out.writeUTF(value.getModel());
-                out.writeUTF(value.getModule());
-                out.writeBoolean(value.getExtraInfo() != null);
-                if (value.getExtraInfo() instanceof OdooRecordViewInfo) {
-                    OdooRecordViewInfoExternalizer.INSTANCE.save(out, (OdooRecordViewInfo) value.getExtraInfo());
-                }
-            }
-
-            @Override
-            public OdooRecord read(@NotNull DataInput in) throws IOException {
-                String id = in.readUTF();
-                String model = in.readUTF();
-                String module = in.readUTF();
-                OdooRecordExtraInfo extraInfo = null;
-                if (in.readBoolean()) {
-                    if (OdooNames.IR_UI_VIEW.equals(model)) {
-                        extraInfo = OdooRecordViewInfoExternalizer.INSTANCE.read(in);
-                    }
-                }
-                return new OdooRecord(id, model, module, extraInfo, null);
-            }
-        };
+        return OdooRecordExternalizer.INSTANCE;
     }
 
     @Override
     public int getVersion() {
-        return 11;
+        return 16;
     }
 
     @NotNull
@@ -143,7 +80,7 @@ public class OdooExternalIdIndex extends FileBasedIndexExtension<String, OdooRec
     public FileBasedIndex.InputFilter getInputFilter() {
         return file -> {
             String extension = file.getExtension();
-            return extension != null && ArrayUtil.contains(extension.toLowerCase().trim(), "csv", "xml", "py");
+            return extension != null && "csv".equals(extension.toLowerCase().trim()) && OdooModuleUtils.isInOdooModule(file);
         };
     }
 
@@ -153,10 +90,17 @@ public class OdooExternalIdIndex extends FileBasedIndexExtension<String, OdooRec
     }
 
     @NotNull
-    public static Collection<String> getAllIds(@NotNull Project project,
-                                               @NotNull GlobalSearchScope scope) {
+    public static Collection<String> getAllIds(@NotNull GlobalSearchScope scope,
+                                               @Nullable IdFilter filter) {
         List<String> ids = new LinkedList<>();
-        FileBasedIndex.getInstance().processAllKeys(NAME, ids::add, scope, null);
+        FileBasedIndex.getInstance().processAllKeys(NAME, id -> {
+            if (!id.startsWith(MODULE_KEY_PREFIX)) {
+                ids.add(id);
+            }
+            return true;
+        }, scope, filter);
+        OdooXmlFileSummaryIndex.processAllKeys(OdooXmlFileSummaryIndex.RECORD, ids::add, scope, filter);
+        OdooPyFileSummaryIndex.processAllKeys(OdooPyFileSummaryIndex.EXTERNAL_ID, ids::add, scope, filter);
         return ids;
     }
 
@@ -172,6 +116,94 @@ public class OdooExternalIdIndex extends FileBasedIndexExtension<String, OdooRec
             }, scope)) {
                 return false;
             }
+            if (!OdooXmlFileSummaryIndex.processSummaries(OdooXmlFileSummaryIndex.RECORD, id, (file, value) -> {
+                OdooRecord record = value.getRecord();
+                return record == null || processor.process(record.withDataFile(file));
+            }, scope)) {
+                return false;
+            }
+            if (!OdooPyFileSummaryIndex.processSummaries(OdooPyFileSummaryIndex.EXTERNAL_ID, id, (file, value) -> {
+                OdooRecord record = createModelRecord(id, file, value);
+                return record == null || processor.process(record);
+            }, scope)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    private static OdooRecord createModelRecord(@NotNull String id,
+                                                @NotNull VirtualFile file,
+                                                @NotNull OdooPyFileSummary value) {
+        String[] splits = id.split("\\.", 2);
+        if (splits.length < 2) {
+            return null;
+        }
+        int offset = value.getModelClasses().isEmpty() ? -1 : value.getModelClasses().get(0).getOffset();
+        return new OdooRecord(splits[1], OdooNames.IR_MODEL, splits[0], null, file, offset);
+    }
+
+    @NotNull
+    public static Collection<String> getModuleNames(@NotNull GlobalSearchScope scope) {
+        Set<String> names = new LinkedHashSet<>();
+        FileBasedIndex.getInstance().processAllKeys(NAME, key -> {
+            if (key.startsWith(MODULE_KEY_PREFIX)) {
+                names.add(key.substring(MODULE_KEY_PREFIX.length()));
+            }
+            return true;
+        }, scope, null);
+        OdooXmlFileSummaryIndex.processAllKeys(OdooXmlFileSummaryIndex.MODULE, names::add, scope, null);
+        OdooPyFileSummaryIndex.processAllKeys(OdooPyFileSummaryIndex.MODULE, names::add, scope, null);
+        return names;
+    }
+
+    @NotNull
+    public static Set<String> getOriginModules(@NotNull VirtualFile file,
+                                               @NotNull Project project) {
+        Set<String> names = new HashSet<>();
+        if (!file.isValid()) {
+            return names;
+        }
+        for (String key : FileBasedIndex.getInstance().getFileData(NAME, file, project).keySet()) {
+            if (key.startsWith(MODULE_KEY_PREFIX)) {
+                names.add(key.substring(MODULE_KEY_PREFIX.length()));
+            }
+        }
+        names.addAll(OdooXmlFileSummaryIndex.getFileData(OdooXmlFileSummaryIndex.MODULE, file, project).keySet());
+        names.addAll(OdooPyFileSummaryIndex.getFileData(OdooPyFileSummaryIndex.MODULE, file, project).keySet());
+        return names;
+    }
+
+    public static boolean processRecords(@NotNull Project project,
+                                         @NotNull String moduleName,
+                                         @NotNull GlobalSearchScope scope,
+                                         @NotNull Processor<OdooRecord> processor) {
+        FileBasedIndex index = FileBasedIndex.getInstance();
+        String prefix = moduleName + ".";
+        for (VirtualFile file : index.getContainingFiles(NAME, MODULE_KEY_PREFIX + moduleName, scope)) {
+            for (Map.Entry<String, OdooRecord> entry : index.getFileData(NAME, file, project).entrySet()) {
+                if (entry.getKey().startsWith(prefix) && !processor.process(entry.getValue().withDataFile(file))) {
+                    return false;
+                }
+            }
+        }
+        for (VirtualFile file : OdooXmlFileSummaryIndex.getContainingFiles(OdooXmlFileSummaryIndex.MODULE, moduleName, scope)) {
+            for (OdooXmlFileSummary summary : OdooXmlFileSummaryIndex.getFileData(OdooXmlFileSummaryIndex.RECORD, file, project).values()) {
+                OdooRecord record = summary.getRecord();
+                if (record != null && record.getQualifiedId().startsWith(prefix) && !processor.process(record.withDataFile(file))) {
+                    return false;
+                }
+            }
+        }
+        for (VirtualFile file : OdooPyFileSummaryIndex.getContainingFiles(OdooPyFileSummaryIndex.MODULE, moduleName, scope)) {
+            Map<String, OdooPyFileSummary> data = OdooPyFileSummaryIndex.getFileData(OdooPyFileSummaryIndex.EXTERNAL_ID, file, project);
+            for (Map.Entry<String, OdooPyFileSummary> entry : data.entrySet()) {
+                OdooRecord record = createModelRecord(entry.getKey(), file, entry.getValue());
+                if (record != null && entry.getKey().startsWith(prefix) && !processor.process(record)) {
+                    return false;
+                }
+            }
         }
         return true;
     }
@@ -179,8 +211,12 @@ public class OdooExternalIdIndex extends FileBasedIndexExtension<String, OdooRec
     public static boolean processAllRecords(@NotNull Project project,
                                             @NotNull GlobalSearchScope scope,
                                             @NotNull Processor<OdooRecord> processor) {
-        Collection<String> ids = getAllIds(project, scope);
-        return processRecordsByIds(project, scope, processor, ids);
+        for (String moduleName : getModuleNames(scope)) {
+            if (!processRecords(project, moduleName, scope, processor)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @NotNull
@@ -13,11 +13,9 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementResolveResult;
 import com.intellij.psi.PsiReferenceBase;
 import com.intellij.psi.ResolveResult;
-import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.IncorrectOperationException;
 import com.intellij.util.PlatformIcons;
-import com.intellij.util.indexing.FileBasedIndex;
 import com.intellij.util.xml.DomElement;
 import com.intellij.util.xml.DomManager;
 import com.intellij.util.xml.DomTarget;
@@ -72,24 +70,14 @@ public class OdooExternalIdReference extends PsiReferenceBase.Poly<PsiElement> {
             return new Object[0];
         }
         Project project = getElement().getProject();
-        GlobalSearchScope scope = module.getOdooModuleWithDependenciesScope();
         Set<String> scopeModuleNames = module.getFlattenedDependsGraph().stream().map(OdooModule::getName).collect(Collectors.toSet());
-        List<String> scopeIds = new LinkedList<>();
         String prefix = getValue().replace(CompletionUtilCore.DUMMY_IDENTIFIER_TRIMMED, "");
         PrefixMatcher matcher = new CamelHumpMatcher(prefix);
-        FileBasedIndex.getInstance().processAllKeys(OdooExternalIdIndex.NAME, s -> {
-            if (s != null && matcher.prefixMatches(s)) {
-                String[] splits = s.split("\\.", 2);
-                if (splits.length > 1 && scopeModuleNames.contains(splits[0])) {
-                    scopeIds.add(s);
-                }
-            }
-            return true;
-        }, project);
-
+        String[] splits = prefix.split("\\.", 2);
+        String idPrefix = splits.length > 1 && scopeModuleNames.contains(splits[0]) ? splits[0] + "." : "";
         List<LookupElement> elements = new LinkedList<>();
-        OdooExternalIdIndex.processRecordsByIds(project, scope, record -> {
-            if (myFilter == null || myFilter.accept(record)) {
+        OdooRecordPrefixCache.getInstance(project).processRecords(module, idPrefix, myFilter, record -> {
+            if (scopeModuleNames.contains(record.getOriginModule()) && matcher.prefixMatches(record.getQualifiedId())) {
                 List<String> ids = new LinkedList<>();
                 ids.add(record.getQualifiedId());
                 if (myAllowUnqualified && record.getOriginModule().equals(module.getName())) {
@@ -103,7 +91,7 @@ public class OdooExternalIdReference extends PsiReferenceBase.Poly<PsiElement> {
                 });
             }
             return true;
-        }, scopeIds);
+        });
         return elements.toArray();
     }
 
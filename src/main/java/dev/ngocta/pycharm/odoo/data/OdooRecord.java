@@ -3,6 +3,7 @@ package dev.ngocta.pycharm.odoo.data;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.*;
+import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.xml.XmlElement;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.psi.xml.XmlTag;
@@ -36,12 +37,22 @@ public class OdooRecord {
     private final String myOriginModule;
     private final OdooRecordExtraInfo myExtraInfo;
     private final VirtualFile myDataFile;
+    private final int myOffset;
 
     public OdooRecord(@NotNull String id,
                       @NotNull String model,
                       @NotNull String module,
                       @Nullable OdooRecordExtraInfo extraInfo,
                       @Nullable VirtualFile dataFile) {
+        this(id, model, module, extraInfo, dataFile, -1);
+    }
+
+    public OdooRecord(@NotNull String id,
+                      @NotNull String model,
+                      @NotNull String module,
+                      @Nullable OdooRecordExtraInfo extraInfo,
+                      @Nullable VirtualFile dataFile,
+                      int offset) {
         myId = id;
         myModel = model;
         myModule = module;
@@ -57,6 +68,7 @@ public class OdooRecord {
         }
         myExtraInfo = extraInfo;
         myDataFile = dataFile;
+        myOffset = offset;
     }
 
     @NotNull
@@ -85,7 +97,7 @@ public class OdooRecord {
     }
 
     @NotNull
-    String getOriginModule() {
+    public String getOriginModule() {
         return myOriginModule;
     }
 
@@ -99,17 +111,25 @@ public class OdooRecord {
         return myDataFile;
     }
 
+    public int getOffset() {
+        return myOffset;
+    }
+
     public List<PsiElement> getElements(@NotNull Project project) {
         if (myDataFile == null || !myDataFile.isValid()) {
             return Collections.emptyList();
         }
         if (OdooCsvUtils.isCsvFile(myDataFile)) {
-            return Collections.singletonList(new OdooCsvRecord(myDataFile, project, myId));
+            return Collections.singletonList(new OdooCsvRecord(myDataFile, project, myId, myOffset));
         }
         PsiFile file = PsiManager.getInstance(project).findFile(myDataFile);
         if (file == null) {
             return Collections.emptyList();
         }
+        PsiElement element = findElementAtOffset(file);
+        if (element != null) {
+            return Collections.singletonList(element);
+        }
         List<PsiElement> result = PyUtil.getParameterizedCachedValue(file, this, param -> {
             List<PsiElement> elements = new LinkedList<>();
             if (file instanceof XmlFile) {
@@ -139,6 +159,21 @@ public class OdooRecord {
         return Collections.unmodifiableList(result);
     }
 
+    @Nullable
+    private PsiElement findElementAtOffset(@NotNull PsiFile file) {
+        if (myOffset < 0 || !(file instanceof XmlFile)) {
+            return null;
+        }
+        XmlTag tag = PsiTreeUtil.getParentOfType(file.findElementAt(myOffset), XmlTag.class);
+        if (tag != null) {
+            DomElement domElement = DomManager.getDomManager(file.getProject()).getDomElement(tag);
+            if (domElement instanceof OdooDomRecordLike && this.equals(((OdooDomRecordLike) domElement).getRecord())) {
+                return ((OdooDomRecordLike) domElement).getXmlElement();
+            }
+        }
+        return null;
+    }
+
     public List<OdooRecordElement> getRecordElements(@NotNull Project project) {
         List<OdooRecordElement> recordElements = new LinkedList<>();
         List<PsiElement> elements = getElements(project);
@@ -180,7 +215,15 @@ public class OdooRecord {
         if (Objects.equals(myDataFile, file)) {
             return this;
         }
-        return new OdooRecord(myId, myModel, myModule, myExtraInfo, file);
+        return new OdooRecord(myId, myModel, myModule, myExtraInfo, file, myOffset);
+    }
+
+    @NotNull
+    public OdooRecord withOffset(int offset) {
+        if (myOffset == offset) {
+            return this;
+        }
+        return new OdooRecord(myId, myModel, myModule, myExtraInfo, myDataFile, offset);
     }
 
     @NotNull
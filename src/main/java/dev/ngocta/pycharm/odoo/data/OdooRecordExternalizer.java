@@ -0,0 +1,42 @@
+package dev.ngocta.pycharm.odoo.data;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import dev.ngocta.pycharm.odoo.OdooNames;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+public class OdooRecordExternalizer implements DataExternalizer<OdooRecord> {
+    public static final OdooRecordExternalizer INSTANCE = new OdooRecordExternalizer();
+
+    @Override
+    public void save(@NotNull DataOutput out,
+                     OdooRecord value) throws IOException {
+        out.writeUTF(value.getId());
+        out.writeUTF(value.getModel());
+        out.writeUTF(value.getModule());
+        DataInputOutputUtil.writeINT(out, value.getOffset());
+        out.writeBoolean(value.getExtraInfo() != null);
+        if (value.getExtraInfo() instanceof OdooRecordViewInfo) {
+            OdooRecordViewInfoExternalizer.INSTANCE.save(out, (OdooRecordViewInfo) value.getExtraInfo());
+        }
+    }
+
+    @Override
+    public OdooRecord read(@NotNull DataInput in) throws IOException {
+        String id = in.readUTF();
+        String model = in.readUTF();
+        String module = in.readUTF();
+        int offset = DataInputOutputUtil.readINT(in);
+        OdooRecordExtraInfo extraInfo = null;
+        if (in.readBoolean()) {
+            if (OdooNames.IR_UI_VIEW.equals(model)) {
+                extraInfo = OdooRecordViewInfoExternalizer.INSTANCE.read(in);
+            }
+        }
+        return new OdooRecord(id, model, module, extraInfo, null, offset);
+    }
+}
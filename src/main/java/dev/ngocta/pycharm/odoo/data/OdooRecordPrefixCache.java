@@ -0,0 +1,180 @@
+package dev.ngocta.pycharm.odoo.data;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiTreeChangeAdapter;
+import com.intellij.psi.PsiTreeChangeEvent;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.Processor;
+import dev.ngocta.pycharm.odoo.data.filter.OdooRecordFilter;
+import dev.ngocta.pycharm.odoo.python.module.OdooModule;
+import dev.ngocta.pycharm.odoo.python.module.OdooModuleGraph;
+import dev.ngocta.pycharm.odoo.python.module.OdooModuleUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class OdooRecordPrefixCache {
+    private final Project myProject;
+    private final Map<String, Entry> myTables = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> myStamps = new ConcurrentHashMap<>();
+    private final Map<VirtualFile, Set<String>> myFileModules = new ConcurrentHashMap<>();
+    private final Set<VirtualFile> myDirtyFiles = ConcurrentHashMap.newKeySet();
+    private final AtomicLong myGlobalStamp = new AtomicLong();
+    private volatile long myModificationCount = -1;
+
+    public OdooRecordPrefixCache(@NotNull Project project) {
+        myProject = project;
+        project.getMessageBus().connect().subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            @Override
+            public void after(@NotNull List<? extends VFileEvent> events) {
+                for (VFileEvent event : events) {
+                    VirtualFile file = event.getFile();
+                    if (file == null || file.isDirectory()) {
+                        invalidateAll();
+                        return;
+                    }
+                    invalidate(file);
+                }
+            }
+        });
+        PsiManager.getInstance(project).addPsiTreeChangeListener(new PsiTreeChangeAdapter() {
+            @Override
+            public void childAdded(@NotNull PsiTreeChangeEvent event) {
+                invalidate(event.getFile());
+            }
+
+            @Override
+            public void childRemoved(@NotNull PsiTreeChangeEvent event) {
+                invalidate(event.getFile());
+            }
+
+            @Override
+            public void childReplaced(@NotNull PsiTreeChangeEvent event) {
+                invalidate(event.getFile());
+            }
+
+            @Override
+            public void childrenChanged(@NotNull PsiTreeChangeEvent event) {
+                invalidate(event.getFile());
+            }
+        }, project);
+    }
+
+    @NotNull
+    public static OdooRecordPrefixCache getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, OdooRecordPrefixCache.class);
+    }
+
+    public boolean processRecords(@NotNull OdooModule module,
+                                  @NotNull String prefix,
+                                  @Nullable OdooRecordFilter filter,
+                                  @NotNull Processor<OdooRecord> processor) {
+        checkModificationCount();
+        processDirtyFiles();
+        GlobalSearchScope scope = module.getOdooModuleWithDependenciesScope();
+        for (String moduleName : OdooExternalIdIndex.getModuleNames(scope)) {
+            OdooRecordPrefixTable table = getTable(moduleName);
+            if (!table.process(prefix, filter, record -> {
+                VirtualFile file = record.getDataFile();
+                return file == null || !scope.contains(file) || processor.process(record);
+            })) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @NotNull
+    private OdooRecordPrefixTable getTable(@NotNull String moduleName) {
+        long stamp = getStamp(moduleName);
+        Entry entry = myTables.get(moduleName);
+        if (entry != null && entry.myStamp == stamp) {
+            return entry.myTable;
+        }
+        List<OdooRecord> records = new ArrayList<>();
+        OdooExternalIdIndex.processRecords(myProject, moduleName, GlobalSearchScope.allScope(myProject), records::add);
+        for (OdooRecord record : records) {
+            VirtualFile file = record.getDataFile();
+            if (file != null) {
+                myFileModules.computeIfAbsent(file, k -> ConcurrentHashMap.newKeySet()).add(moduleName);
+            }
+        }
+        OdooRecordPrefixTable table = OdooRecordPrefixTable.create(records);
+        myTables.put(moduleName, new Entry(stamp, table));
+        return table;
+    }
+
+    private long getStamp(@NotNull String moduleName) {
+        return myGlobalStamp.get() + myStamps.computeIfAbsent(moduleName, k -> new AtomicLong()).get();
+    }
+
+    private void invalidate(@Nullable PsiFile file) {
+        if (file != null) {
+            invalidate(file.getVirtualFile());
+        }
+    }
+
+    private void invalidate(@Nullable VirtualFile file) {
+        if (file == null) {
+            return;
+        }
+        Set<String> moduleNames = myFileModules.remove(file);
+        if (moduleNames != null) {
+            moduleNames.forEach(this::invalidate);
+        }
+        if (file.isValid() && OdooModuleUtils.isInOdooModule(file)) {
+            myDirtyFiles.add(file);
+        }
+    }
+
+    private void invalidate(@NotNull String moduleName) {
+        myStamps.computeIfAbsent(moduleName, k -> new AtomicLong()).incrementAndGet();
+        myTables.remove(moduleName);
+    }
+
+    private void processDirtyFiles() {
+        for (VirtualFile file : new ArrayList<>(myDirtyFiles)) {
+            myDirtyFiles.remove(file);
+            OdooExternalIdIndex.getOriginModules(file, myProject).forEach(this::invalidate);
+        }
+    }
+
+    private void invalidateAll() {
+        myGlobalStamp.incrementAndGet();
+        myTables.clear();
+        myFileModules.clear();
+        myDirtyFiles.clear();
+    }
+
+    private void checkModificationCount() {
+        long count = OdooModuleGraph.getInstance(myProject).getStructureModificationCount();
+        if (count != myModificationCount) {
+            invalidateAll();
+            myModificationCount = count;
+        }
+    }
+
+    private static class Entry {
+        private final long myStamp;
+        private final OdooRecordPrefixTable myTable;
+
+        private Entry(long stamp,
+                      @NotNull OdooRecordPrefixTable table) {
+            myStamp = stamp;
+            myTable = table;
+        }
+    }
+}
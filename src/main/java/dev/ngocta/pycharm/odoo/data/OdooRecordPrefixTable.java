@@ -0,0 +1,131 @@
+package dev.ngocta.pycharm.odoo.data;
+
+import com.intellij.util.ObjectUtils;
+import com.intellij.util.Processor;
+import dev.ngocta.pycharm.odoo.data.filter.OdooRecordFilter;
+import dev.ngocta.pycharm.odoo.data.filter.OdooRecordModelFilter;
+import dev.ngocta.pycharm.odoo.data.filter.OdooRecordViewModelFilter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+class OdooRecordPrefixTable {
+    private final OdooRecord[] myRecords;
+    private final Map<String, int[]> myModelIndices;
+    private final Map<String, int[]> myViewModelIndices;
+
+    private OdooRecordPrefixTable(@NotNull OdooRecord[] records,
+                                  @NotNull Map<String, int[]> modelIndices,
+                                  @NotNull Map<String, int[]> viewModelIndices) {
+        myRecords = records;
+        myModelIndices = modelIndices;
+        myViewModelIndices = viewModelIndices;
+    }
+
+    @NotNull
+    static OdooRecordPrefixTable create(@NotNull List<OdooRecord> records) {
+        OdooRecord[] sorted = records.toArray(new OdooRecord[0]);
+        Arrays.sort(sorted, Comparator.comparing(OdooRecord::getQualifiedId));
+        Map<String, List<Integer>> models = new HashMap<>();
+        Map<String, List<Integer>> viewModels = new HashMap<>();
+        for (int i = 0; i < sorted.length; i++) {
+            models.computeIfAbsent(sorted[i].getModel(), k -> new ArrayList<>()).add(i);
+            OdooRecordViewInfo viewInfo = ObjectUtils.tryCast(sorted[i].getExtraInfo(), OdooRecordViewInfo.class);
+            if (viewInfo != null && viewInfo.getViewModel() != null) {
+                viewModels.computeIfAbsent(viewInfo.getViewModel(), k -> new ArrayList<>()).add(i);
+            }
+        }
+        return new OdooRecordPrefixTable(sorted, toIndices(models), toIndices(viewModels));
+    }
+
+    @NotNull
+    private static Map<String, int[]> toIndices(@NotNull Map<String, List<Integer>> map) {
+        Map<String, int[]> result = new HashMap<>();
+        map.forEach((key, value) -> result.put(key, value.stream().mapToInt(Integer::intValue).toArray()));
+        return result;
+    }
+
+    boolean process(@NotNull String prefix,
+                    @Nullable OdooRecordFilter filter,
+                    @NotNull Processor<OdooRecord> processor) {
+        int start = findStart(prefix);
+        int end = findEnd(prefix, start);
+        if (start >= end) {
+            return true;
+        }
+        if (filter instanceof OdooRecordModelFilter && !((OdooRecordModelFilter) filter).getModels().isEmpty()) {
+            for (String model : ((OdooRecordModelFilter) filter).getModels()) {
+                if (!process(myModelIndices.get(model), start, end, filter, processor)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (filter instanceof OdooRecordViewModelFilter) {
+            String viewModel = ((OdooRecordViewModelFilter) filter).getViewModel();
+            return process(myViewModelIndices.get(viewModel), start, end, filter, processor);
+        }
+        for (int i = start; i < end; i++) {
+            if (!process(myRecords[i], filter, processor)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean process(@Nullable int[] indices,
+                            int start,
+                            int end,
+                            @Nullable OdooRecordFilter filter,
+                            @NotNull Processor<OdooRecord> processor) {
+        if (indices == null) {
+            return true;
+        }
+        int from = Arrays.binarySearch(indices, start);
+        if (from < 0) {
+            from = -from - 1;
+        }
+        for (int i = from; i < indices.length && indices[i] < end; i++) {
+            if (!process(myRecords[indices[i]], filter, processor)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean process(@NotNull OdooRecord record,
+                                   @Nullable OdooRecordFilter filter,
+                                   @NotNull Processor<OdooRecord> processor) {
+        return (filter != null && !filter.accept(record)) || processor.process(record);
+    }
+
+    private int findStart(@NotNull String prefix) {
+        int low = 0;
+        int high = myRecords.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (myRecords[mid].getQualifiedId().compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int findEnd(@NotNull String prefix,
+                        int start) {
+        int low = start;
+        int high = myRecords.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (myRecords[mid].getQualifiedId().startsWith(prefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
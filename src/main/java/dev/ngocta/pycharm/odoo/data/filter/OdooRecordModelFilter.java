@@ -19,6 +19,11 @@ public class OdooRecordModelFilter implements OdooRecordFilter {
         }
     }
 
+    @NotNull
+    public List<String> getModels() {
+        return myModels;
+    }
+
     @Override
     public boolean accept(@NotNull OdooRecord record) {
         return myModels.isEmpty() || myModels.contains(record.getModel());
@@ -18,6 +18,11 @@ public class OdooRecordViewModelFilter implements OdooRecordFilter {
         myExcludedIds = Arrays.asList(excludedIds);
     }
 
+    @NotNull
+    public String getViewModel() {
+        return myViewModel;
+    }
+
     @Override
     public boolean accept(@NotNull OdooRecord record) {
         OdooRecordViewInfo viewInfo = ObjectUtils.tryCast(record.getExtraInfo(), OdooRecordViewInfo.class);
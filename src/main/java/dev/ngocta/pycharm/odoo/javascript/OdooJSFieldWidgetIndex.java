@@ -68,7 +68,7 @@ public class OdooJSFieldWidgetIndex extends ScalarIndexExtension<String> {
 
     @Override
     public int getVersion() {
-        return 0;
+        return 1;
     }
 
     @Override
@@ -76,7 +76,7 @@ public class OdooJSFieldWidgetIndex extends ScalarIndexExtension<String> {
     public FileBasedIndex.InputFilter getInputFilter() {
         return file -> {
             String extension = file.getExtension();
-            return extension != null && extension.toLowerCase().equals("js");
+            return extension != null && extension.toLowerCase().equals("js") && OdooModuleUtils.isInOdooModule(file);
         };
     }
 
@@ -2,7 +2,6 @@ package dev.ngocta.pycharm.odoo.python;
 
 import com.intellij.openapi.util.Ref;
 import com.intellij.psi.PsiElement;
-import com.intellij.util.indexing.FileBasedIndex;
 import com.jetbrains.python.psi.PyFunction;
 import com.jetbrains.python.psi.PyNamedParameter;
 import com.jetbrains.python.psi.StructuredDocString;
@@ -41,11 +40,6 @@ public class OdooPyDocStringTypeProvider extends PyTypeProviderBase {
         if (module == null) {
             return false;
         }
-        Ref<Boolean> is = new Ref<>(false);
-        FileBasedIndex.getInstance().processValues(OdooModelIndex.NAME, name, null, (file, value) -> {
-            is.set(true);
-            return false;
-        }, module.getOdooModuleWithDependenciesScope());
-        return is.get();
+        return OdooModelIndex.containsOdooModel(name, module.getOdooModuleWithDependenciesScope());
     }
 }
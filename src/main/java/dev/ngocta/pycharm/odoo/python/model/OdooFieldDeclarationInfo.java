@@ -0,0 +1,92 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+public class OdooFieldDeclarationInfo {
+    private final String myModel;
+    private final String myTypeName;
+    private final String myComodel;
+    private final String myRelated;
+    private final String myCompute;
+    private final boolean myStore;
+    private final boolean myIndex;
+    private final boolean myRequired;
+
+    public OdooFieldDeclarationInfo(@NotNull String model,
+                                    @NotNull String typeName,
+                                    @Nullable String comodel,
+                                    @Nullable String related,
+                                    @Nullable String compute,
+                                    boolean store,
+                                    boolean index,
+                                    boolean required) {
+        myModel = model;
+        myTypeName = typeName;
+        myComodel = comodel;
+        myRelated = related;
+        myCompute = compute;
+        myStore = store;
+        myIndex = index;
+        myRequired = required;
+    }
+
+    @NotNull
+    public String getModel() {
+        return myModel;
+    }
+
+    @NotNull
+    public String getTypeName() {
+        return myTypeName;
+    }
+
+    @Nullable
+    public String getComodel() {
+        return myComodel;
+    }
+
+    @Nullable
+    public String getRelated() {
+        return myRelated;
+    }
+
+    @Nullable
+    public String getCompute() {
+        return myCompute;
+    }
+
+    public boolean isStore() {
+        return myStore;
+    }
+
+    public boolean isIndex() {
+        return myIndex;
+    }
+
+    public boolean isRequired() {
+        return myRequired;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OdooFieldDeclarationInfo that = (OdooFieldDeclarationInfo) o;
+        return myStore == that.myStore &&
+                myIndex == that.myIndex &&
+                myRequired == that.myRequired &&
+                myModel.equals(that.myModel) &&
+                myTypeName.equals(that.myTypeName) &&
+                Objects.equals(myComodel, that.myComodel) &&
+                Objects.equals(myRelated, that.myRelated) &&
+                Objects.equals(myCompute, that.myCompute);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(myModel, myTypeName, myComodel, myRelated, myCompute, myStore, myIndex, myRequired);
+    }
+}
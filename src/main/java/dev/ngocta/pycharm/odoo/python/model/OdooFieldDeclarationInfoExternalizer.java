@@ -0,0 +1,50 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import dev.ngocta.pycharm.odoo.OdooUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+class OdooFieldDeclarationInfoExternalizer implements DataExternalizer<List<OdooFieldDeclarationInfo>> {
+    public static final OdooFieldDeclarationInfoExternalizer INSTANCE = new OdooFieldDeclarationInfoExternalizer();
+
+    @Override
+    public void save(@NotNull DataOutput out,
+                     List<OdooFieldDeclarationInfo> value) throws IOException {
+        DataInputOutputUtil.writeINT(out, value.size());
+        for (OdooFieldDeclarationInfo info : value) {
+            out.writeUTF(info.getModel());
+            out.writeUTF(info.getTypeName());
+            OdooUtils.writeNullableString(info.getComodel(), out);
+            OdooUtils.writeNullableString(info.getRelated(), out);
+            OdooUtils.writeNullableString(info.getCompute(), out);
+            out.writeBoolean(info.isStore());
+            out.writeBoolean(info.isIndex());
+            out.writeBoolean(info.isRequired());
+        }
+    }
+
+    @Override
+    public List<OdooFieldDeclarationInfo> read(@NotNull DataInput in) throws IOException {
+        int size = DataInputOutputUtil.readINT(in);
+        List<OdooFieldDeclarationInfo> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String model = in.readUTF();
+            String typeName = in.readUTF();
+            String comodel = OdooUtils.readNullableString(in);
+            String related = OdooUtils.readNullableString(in);
+            String compute = OdooUtils.readNullableString(in);
+            boolean store = in.readBoolean();
+            boolean index = in.readBoolean();
+            boolean required = in.readBoolean();
+            result.add(new OdooFieldDeclarationInfo(model, typeName, comodel, related, compute, store, index, required));
+        }
+        return result;
+    }
+}
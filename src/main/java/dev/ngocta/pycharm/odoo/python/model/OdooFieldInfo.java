@@ -50,15 +50,24 @@ public class OdooFieldInfo {
 
     @Nullable
     public String getComodel() {
+        String comodel = getDeclaredComodel();
+        if (comodel != null) {
+            return comodel;
+        }
         return doGetComodel(new THashSet<>());
     }
 
+    @Nullable
+    public String getDeclaredComodel() {
+        return ObjectUtils.tryCast(myAttributes.get(OdooNames.FIELD_ATTR_COMODEL_NAME), String.class);
+    }
+
     private String doGetComodel(Set<PsiElement> visitedFields) {
         if (visitedFields.contains(myElement)) {
             return null;
         }
         visitedFields.add(myElement);
-        String comodel = ObjectUtils.tryCast(myAttributes.get(OdooNames.FIELD_ATTR_COMODEL_NAME), String.class);
+        String comodel = getDeclaredComodel();
         if (comodel == null) {
             OdooFieldInfo relatedInfo = getRelatedFieldInfo();
             if (relatedInfo != null) {
@@ -117,37 +126,63 @@ public class OdooFieldInfo {
         if (field.getName() == null || field.getName().startsWith("_")) {
             return null;
         }
+        OdooFieldStub stub = OdooFieldStub.getFieldStub(field.getStub());
+        if (stub != null) {
+            Map<String, Object> attributes = new HashMap<>();
+            attributes.put(OdooNames.FIELD_ATTR_COMODEL_NAME, stub.getComodel());
+            attributes.put(OdooNames.FIELD_ATTR_RELATED, stub.getRelated());
+            attributes.put(OdooNames.FIELD_ATTR_DELEGATE, stub.isDelegate());
+            return new OdooFieldInfo(field.getName(), field, stub.getTypeName(), attributes);
+        }
         PyExpression assignedValue = field.findAssignedValue();
-        if (assignedValue instanceof PyCallExpression) {
-            PyCallExpression callExpression = (PyCallExpression) assignedValue;
-            if (OdooModelUtils.isFieldDeclarationExpression(callExpression)) {
-                Map<String, Object> attributes = new HashMap<>();
-                String typeName = Optional.of(callExpression)
-                        .map(PyCallExpression::getCallee)
-                        .map(NavigationItem::getName).orElse(null);
-                if (typeName != null) {
-                    if (OdooNames.FIELD_TYPE_MANY2ONE.equals(typeName)
-                            || OdooNames.FIELD_TYPE_ONE2MANY.equals(typeName)
-                            || OdooNames.FIELD_TYPE_MANY2MANY.equals(typeName)) {
-                        String comodelName = getCallArgumentStringValue(callExpression, 0, OdooNames.FIELD_ATTR_COMODEL_NAME);
-                        attributes.put(OdooNames.FIELD_ATTR_COMODEL_NAME, comodelName);
-                    }
-                    String related = getCallArgumentStringValue(callExpression, OdooNames.FIELD_ATTR_RELATED);
-                    attributes.put(OdooNames.FIELD_ATTR_RELATED, related);
-                    if (OdooNames.FIELD_TYPE_MANY2ONE.equals(typeName)) {
-                        boolean delegate = getCallArgumentBooleanValue(callExpression, OdooNames.FIELD_ATTR_DELEGATE, false);
-                        attributes.put(OdooNames.FIELD_ATTR_DELEGATE, delegate);
-                    }
-                    return new OdooFieldInfo(field.getName(), field, typeName, attributes);
-                }
-            }
+        if (assignedValue instanceof PyCallExpression
+                && OdooModelUtils.isFieldDeclarationExpression((PyCallExpression) assignedValue)) {
+            return createInfo(field, (PyCallExpression) assignedValue);
         }
         return null;
     }
 
     @Nullable
-    private static String getCallArgumentStringValue(@NotNull PyCallExpression callExpression,
-                                                     @NotNull String keyword) {
+    static OdooFieldInfo readInfo(@NotNull PyTargetExpression field) {
+        if (field.getName() == null || field.getName().startsWith("_")) {
+            return null;
+        }
+        PyExpression assignedValue = field.findAssignedValue();
+        if (assignedValue instanceof PyCallExpression
+                && OdooModelUtils.isKnownFieldDeclarationExpression((PyCallExpression) assignedValue)) {
+            return createInfo(field, (PyCallExpression) assignedValue);
+        }
+        return null;
+    }
+
+    @Nullable
+    private static OdooFieldInfo createInfo(@NotNull PyTargetExpression field,
+                                            @NotNull PyCallExpression callExpression) {
+        String typeName = Optional.of(callExpression)
+                .map(PyCallExpression::getCallee)
+                .map(NavigationItem::getName).orElse(null);
+        if (typeName == null || field.getName() == null) {
+            return null;
+        }
+        Map<String, Object> attributes = new HashMap<>();
+        if (OdooNames.FIELD_TYPE_MANY2ONE.equals(typeName)
+                || OdooNames.FIELD_TYPE_ONE2MANY.equals(typeName)
+                || OdooNames.FIELD_TYPE_MANY2MANY.equals(typeName)) {
+            String comodelName = getCallArgumentStringValue(callExpression, 0, OdooNames.FIELD_ATTR_COMODEL_NAME);
+            attributes.put(OdooNames.FIELD_ATTR_COMODEL_NAME, comodelName);
+        }
+        String related = getCallArgumentStringValue(callExpression, OdooNames.FIELD_ATTR_RELATED);
+        attributes.put(OdooNames.FIELD_ATTR_RELATED, related);
+        if (OdooNames.FIELD_TYPE_MANY2ONE.equals(typeName)) {
+            boolean delegate = getCallArgumentBooleanValue(callExpression, OdooNames.FIELD_ATTR_DELEGATE, false);
+            attributes.put(OdooNames.FIELD_ATTR_DELEGATE, delegate);
+        }
+        return new OdooFieldInfo(field.getName(), field, typeName, attributes);
+    }
+
+    @Nullable
+    static String getCallArgumentStringValue(@NotNull PyCallExpression callExpression,
+                                             @NotNull String keyword) {
         PyExpression arg = callExpression.getKeywordArgument(keyword);
         if (arg instanceof PyStringLiteralExpression) {
             return ((PyStringLiteralExpression) arg).getStringValue();
@@ -167,9 +202,9 @@ public class OdooFieldInfo {
     }
 
     @Nullable
-    private static boolean getCallArgumentBooleanValue(@NotNull PyCallExpression callExpression,
-                                                       @NotNull String keyword,
-                                                       boolean defaultValue) {
+    static boolean getCallArgumentBooleanValue(@NotNull PyCallExpression callExpression,
+                                               @NotNull String keyword,
+                                               boolean defaultValue) {
         PyExpression arg = callExpression.getKeywordArgument(keyword);
         if (arg instanceof PyBoolLiteralExpression) {
             return ((PyBoolLiteralExpression) arg).getValue();
@@ -0,0 +1,126 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.util.ObjectUtils;
+import com.jetbrains.python.psi.types.PyType;
+import com.jetbrains.python.psi.types.TypeEvalContext;
+import dev.ngocta.pycharm.odoo.python.module.OdooModule;
+import dev.ngocta.pycharm.odoo.python.module.OdooModuleGraph;
+import dev.ngocta.pycharm.odoo.python.module.OdooModuleUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class OdooFieldPathCache {
+    private static final int MAX_NODES = 50000;
+
+    private final Project myProject;
+    private final Map<List<Object>, Node> myRoots = new ConcurrentHashMap<>();
+    private final AtomicInteger myNodeCount = new AtomicInteger();
+    private volatile long myModificationCount = -1;
+
+    public OdooFieldPathCache(@NotNull Project project) {
+        myProject = project;
+    }
+
+    @NotNull
+    public static OdooFieldPathCache getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, OdooFieldPathCache.class);
+    }
+
+    @NotNull
+    public List<PsiElement> resolve(@NotNull OdooModelClass modelClass,
+                                    @NotNull String[] fieldNames,
+                                    @NotNull TypeEvalContext context) {
+        List<PsiElement> result = new LinkedList<>();
+        if (fieldNames.length == 0) {
+            return result;
+        }
+        checkModificationCount();
+        Node node = myRoots.computeIfAbsent(Arrays.asList(getScopeKey(context), modelClass.getName()), k -> {
+            myNodeCount.incrementAndGet();
+            return new Node(null, modelClass);
+        });
+        for (String name : fieldNames) {
+            if (node.myModelClass == null) {
+                break;
+            }
+            Node child = node.myChildren.get(name);
+            if (child == null) {
+                child = createNode(node.myModelClass, name, context);
+                if (myNodeCount.incrementAndGet() > MAX_NODES) {
+                    clear();
+                } else {
+                    node.myChildren.putIfAbsent(name, child);
+                }
+            }
+            if (child.myField == null) {
+                break;
+            }
+            result.add(child.myField);
+            node = child;
+        }
+        return result;
+    }
+
+    @NotNull
+    private static Node createNode(@NotNull OdooModelClass modelClass,
+                                   @NotNull String name,
+                                   @NotNull TypeEvalContext context) {
+        PsiElement field = modelClass.findField(name, context);
+        if (field == null) {
+            return new Node(null, null);
+        }
+        PyType fieldType = OdooFieldInfo.getFieldType(field, context);
+        if (fieldType instanceof OdooModelClassType) {
+            return new Node(field, ((OdooModelClassType) fieldType).getPyClass());
+        }
+        return new Node(field, null);
+    }
+
+    @NotNull
+    private static Object getScopeKey(@NotNull TypeEvalContext context) {
+        PsiFile file = context.getOrigin();
+        if (file == null) {
+            return ObjectUtils.NULL;
+        }
+        OdooModule module = OdooModuleUtils.getContainingOdooModule(file);
+        if (module != null) {
+            return module.getDirectory().getVirtualFile();
+        }
+        return ObjectUtils.notNull(file.getVirtualFile(), ObjectUtils.NULL);
+    }
+
+    private void checkModificationCount() {
+        long count = PsiModificationTracker.SERVICE.getInstance(myProject).getModificationCount()
+                + OdooModuleGraph.getInstance(myProject).getModificationCount();
+        if (count != myModificationCount) {
+            clear();
+            myModificationCount = count;
+        }
+    }
+
+    private void clear() {
+        myRoots.clear();
+        myNodeCount.set(0);
+    }
+
+    private static class Node {
+        private final PsiElement myField;
+        private final OdooModelClass myModelClass;
+        private final Map<String, Node> myChildren = new ConcurrentHashMap<>();
+
+        private Node(@Nullable PsiElement field,
+                     @Nullable OdooModelClass modelClass) {
+            myField = field;
+            myModelClass = modelClass;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import com.intellij.psi.util.QualifiedName;
+import com.jetbrains.python.psi.impl.stubs.CustomTargetExpressionStub;
+import com.jetbrains.python.psi.impl.stubs.CustomTargetExpressionStubType;
+import com.jetbrains.python.psi.stubs.PyTargetExpressionStub;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+
+public class OdooFieldStub implements CustomTargetExpressionStub {
+    private final String myModel;
+    private final String myTypeName;
+    private final String myComodel;
+    private final String myRelated;
+    private final boolean myDelegate;
+    private final QualifiedName myCalleeName;
+
+    public OdooFieldStub(@NotNull String model,
+                         @NotNull String typeName,
+                         @Nullable String comodel,
+                         @Nullable String related,
+                         boolean delegate,
+                         @Nullable QualifiedName calleeName) {
+        myModel = model;
+        myTypeName = typeName;
+        myComodel = comodel;
+        myRelated = related;
+        myDelegate = delegate;
+        myCalleeName = calleeName;
+    }
+
+    @NotNull
+    public String getModel() {
+        return myModel;
+    }
+
+    @NotNull
+    public String getTypeName() {
+        return myTypeName;
+    }
+
+    @Nullable
+    public String getComodel() {
+        return myComodel;
+    }
+
+    @Nullable
+    public String getRelated() {
+        return myRelated;
+    }
+
+    public boolean isDelegate() {
+        return myDelegate;
+    }
+
+    @Override
+    public Class<? extends CustomTargetExpressionStubType> getTypeClass() {
+        return OdooFieldStubType.class;
+    }
+
+    @Override
+    public void serialize(StubOutputStream stream) throws IOException {
+        stream.writeName(myModel);
+        stream.writeName(myTypeName);
+        stream.writeName(myComodel);
+        stream.writeName(myRelated);
+        stream.writeBoolean(myDelegate);
+        QualifiedName.serialize(myCalleeName, stream);
+    }
+
+    @Nullable
+    static OdooFieldStub deserialize(@NotNull StubInputStream stream) throws IOException {
+        String model = stream.readNameString();
+        String typeName = stream.readNameString();
+        String comodel = stream.readNameString();
+        String related = stream.readNameString();
+        boolean delegate = stream.readBoolean();
+        QualifiedName calleeName = QualifiedName.deserialize(stream);
+        if (model == null || typeName == null) {
+            return null;
+        }
+        return new OdooFieldStub(model, typeName, comodel, related, delegate, calleeName);
+    }
+
+    @Nullable
+    @Override
+    public QualifiedName getCalleeName() {
+        return myCalleeName;
+    }
+
+    @Nullable
+    public static OdooFieldStub getFieldStub(@Nullable PyTargetExpressionStub stub) {
+        return stub != null ? stub.getCustomStub(OdooFieldStub.class) : null;
+    }
+}
@@ -0,0 +1,43 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.psi.stubs.StubInputStream;
+import com.jetbrains.python.psi.*;
+import com.jetbrains.python.psi.impl.stubs.CustomTargetExpressionStubType;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+
+public class OdooFieldStubType extends CustomTargetExpressionStubType<OdooFieldStub> {
+    @Nullable
+    @Override
+    public OdooFieldStub createStub(PyTargetExpression psi) {
+        PyClass cls = psi.getContainingClass();
+        if (cls == null || psi.getName() == null || psi.getName().startsWith("_")) {
+            return null;
+        }
+        PyExpression assignedValue = psi.findAssignedValue();
+        if (!(assignedValue instanceof PyCallExpression)
+                || !OdooModelUtils.isKnownFieldDeclarationExpression((PyCallExpression) assignedValue)) {
+            return null;
+        }
+        String model = OdooModelInfo.readName(cls);
+        OdooFieldInfo fieldInfo = OdooFieldInfo.readInfo(psi);
+        if (model == null || fieldInfo == null) {
+            return null;
+        }
+        PyExpression callee = ((PyCallExpression) assignedValue).getCallee();
+        return new OdooFieldStub(
+                model,
+                fieldInfo.getTypeName(),
+                fieldInfo.getDeclaredComodel(),
+                fieldInfo.getRelated(),
+                fieldInfo.isDelegate(),
+                callee instanceof PyReferenceExpression ? ((PyReferenceExpression) callee).asQualifiedName() : null);
+    }
+
+    @Nullable
+    @Override
+    public OdooFieldStub deserializeStub(StubInputStream stream) throws IOException {
+        return OdooFieldStub.deserialize(stream);
+    }
+}
@@ -0,0 +1,243 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiTreeChangeAdapter;
+import com.intellij.psi.PsiTreeChangeEvent;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.jetbrains.python.psi.*;
+import dev.ngocta.pycharm.odoo.OdooNames;
+import dev.ngocta.pycharm.odoo.python.module.OdooModule;
+import dev.ngocta.pycharm.odoo.python.module.OdooModuleGraph;
+import dev.ngocta.pycharm.odoo.python.module.OdooModuleUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+public class OdooModelCache implements Disposable {
+    private static final int MAX_ENTRIES = 20000;
+
+    private final Project myProject;
+    private final Map<String, SimpleModificationTracker> myModelTrackers = new ConcurrentHashMap<>();
+    private final SimpleModificationTracker myStructureTracker = new SimpleModificationTracker();
+    private final SimpleModificationTracker myDeclarationTracker = new SimpleModificationTracker();
+    private final Map<VirtualFile, Set<String>> myFileModels = new ConcurrentHashMap<>();
+    private final Map<List<Object>, Entry<?>> myEntries = new ConcurrentHashMap<>();
+
+    public OdooModelCache(@NotNull Project project) {
+        myProject = project;
+        PsiManager.getInstance(project).addPsiTreeChangeListener(new PsiTreeChangeAdapter() {
+            @Override
+            public void beforeChildAddition(@NotNull PsiTreeChangeEvent event) {
+                rememberFileModels(event);
+            }
+
+            @Override
+            public void beforeChildRemoval(@NotNull PsiTreeChangeEvent event) {
+                rememberFileModels(event);
+            }
+
+            @Override
+            public void beforeChildReplacement(@NotNull PsiTreeChangeEvent event) {
+                rememberFileModels(event);
+            }
+
+            @Override
+            public void beforeChildMovement(@NotNull PsiTreeChangeEvent event) {
+                rememberFileModels(event);
+            }
+
+            @Override
+            public void beforeChildrenChange(@NotNull PsiTreeChangeEvent event) {
+                rememberFileModels(event);
+            }
+
+            @Override
+            public void childAdded(@NotNull PsiTreeChangeEvent event) {
+                processChange(event);
+            }
+
+            @Override
+            public void childRemoved(@NotNull PsiTreeChangeEvent event) {
+                processChange(event);
+            }
+
+            @Override
+            public void childReplaced(@NotNull PsiTreeChangeEvent event) {
+                processChange(event);
+            }
+
+            @Override
+            public void childMoved(@NotNull PsiTreeChangeEvent event) {
+                processChange(event);
+            }
+
+            @Override
+            public void childrenChanged(@NotNull PsiTreeChangeEvent event) {
+                processChange(event);
+            }
+
+            @Override
+            public void propertyChanged(@NotNull PsiTreeChangeEvent event) {
+                processChange(event);
+            }
+        }, this);
+    }
+
+    @NotNull
+    public static OdooModelCache getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, OdooModelCache.class);
+    }
+
+    @NotNull
+    public ModificationTracker getModelTracker(@NotNull String model) {
+        return myModelTrackers.computeIfAbsent(model, k -> new SimpleModificationTracker());
+    }
+
+    @NotNull
+    public ModificationTracker getDeclarationTracker() {
+        return () -> myStructureTracker.getModificationCount() + myDeclarationTracker.getModificationCount();
+    }
+
+    @SuppressWarnings("unchecked")
+    @NotNull
+    public <T> T getCachedValue(@NotNull String kind,
+                                @NotNull String model,
+                                @NotNull OdooModule module,
+                                @NotNull Set<String> dependencies,
+                                @NotNull Function<Set<String>, T> computer) {
+        List<Object> key = Arrays.asList(kind, model, module.getDirectory().getVirtualFile());
+        Entry<?> entry = myEntries.get(key);
+        if (entry == null || entry.myStamp != getStamp(entry.myModels)) {
+            Set<String> models = new HashSet<>();
+            models.add(model);
+            T value = computer.apply(models);
+            entry = new Entry<>(value, models, getStamp(models));
+            if (myEntries.size() > MAX_ENTRIES) {
+                myEntries.clear();
+            }
+            myEntries.put(key, entry);
+        }
+        dependencies.addAll(entry.myModels);
+        return (T) entry.myValue;
+    }
+
+    public boolean isHalfFull() {
+        return myEntries.size() >= MAX_ENTRIES / 2;
+    }
+
+    private long getStamp(@NotNull Set<String> models) {
+        long stamp = myStructureTracker.getModificationCount() + OdooModuleGraph.getInstance(myProject).getModificationCount();
+        for (String model : models) {
+            stamp += getModelTracker(model).getModificationCount();
+        }
+        return stamp;
+    }
+
+    private void rememberFileModels(@NotNull PsiTreeChangeEvent event) {
+        PsiFile file = event.getFile();
+        if (file instanceof PyFile && OdooModuleUtils.isInOdooModule(file.getVirtualFile())) {
+            myFileModels.computeIfAbsent(file.getVirtualFile(), f -> getDeclaredModels((PyFile) file));
+        }
+    }
+
+    private void processChange(@NotNull PsiTreeChangeEvent event) {
+        PsiFile file = event.getFile();
+        if (file == null) {
+            myStructureTracker.incModificationCount();
+            myEntries.clear();
+            myFileModels.keySet().removeIf(f -> !f.isValid());
+            return;
+        }
+        VirtualFile virtualFile = file.getVirtualFile();
+        if (!(file instanceof PyFile) || !OdooModuleUtils.isInOdooModule(virtualFile)) {
+            return;
+        }
+        Set<String> oldModels = myFileModels.get(virtualFile);
+        Set<String> changedModels = new HashSet<>();
+        if (oldModels != null) {
+            changedModels.addAll(oldModels);
+        }
+        boolean declarationChange = isModelDeclarationChange(event);
+        if (declarationChange) {
+            myDeclarationTracker.incModificationCount();
+        }
+        if (oldModels == null || declarationChange) {
+            Set<String> models = getDeclaredModels((PyFile) file);
+            myFileModels.put(virtualFile, models);
+            changedModels.addAll(models);
+        }
+        for (String model : changedModels) {
+            SimpleModificationTracker tracker = myModelTrackers.get(model);
+            if (tracker != null) {
+                tracker.incModificationCount();
+            }
+        }
+    }
+
+    private static boolean isModelDeclarationChange(@NotNull PsiTreeChangeEvent event) {
+        PsiElement element = event.getParent();
+        if (element == null || element instanceof PsiFile) {
+            return true;
+        }
+        PyClass cls = PsiTreeUtil.getParentOfType(element, PyClass.class, false);
+        if (cls == null || cls.getParent() != cls.getContainingFile()) {
+            return false;
+        }
+        if (element == cls || element == cls.getStatementList()) {
+            return true;
+        }
+        PyAssignmentStatement assignment = PsiTreeUtil.getParentOfType(element, PyAssignmentStatement.class, false);
+        if (assignment == null || assignment.getParent() != cls.getStatementList()) {
+            return false;
+        }
+        for (PyExpression target : assignment.getTargets()) {
+            String name = target.getName();
+            if (OdooNames.MODEL_NAME.equals(name) || OdooNames.MODEL_INHERIT.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @NotNull
+    private static Set<String> getDeclaredModels(@NotNull PyFile file) {
+        Set<String> models = new HashSet<>();
+        for (PyClass cls : file.getTopLevelClasses()) {
+            OdooModelInfo info = OdooModelInfo.getInfo(cls);
+            if (info != null) {
+                models.add(info.getName());
+            }
+        }
+        return models;
+    }
+
+    @Override
+    public void dispose() {
+        myEntries.clear();
+        myFileModels.clear();
+    }
+
+    private static class Entry<T> {
+        private final T myValue;
+        private final Set<String> myModels;
+        private final long myStamp;
+
+        private Entry(@NotNull T value,
+                      @NotNull Set<String> models,
+                      long stamp) {
+            myValue = value;
+            myModels = models;
+            myStamp = stamp;
+        }
+    }
+}
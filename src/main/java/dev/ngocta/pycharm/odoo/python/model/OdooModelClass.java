@@ -5,16 +5,12 @@ import com.intellij.lang.ASTNode;
 import com.intellij.lang.Language;
 import com.intellij.navigation.ItemPresentation;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.util.ModificationTracker;
-import com.intellij.openapi.util.Ref;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.impl.FakePsiElement;
 import com.intellij.psi.scope.PsiScopeProcessor;
 import com.intellij.psi.stubs.IStubElementType;
-import com.intellij.psi.util.CachedValueProvider;
-import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.util.PlatformIcons;
 import com.intellij.util.Processor;
 import com.jetbrains.python.PyStubElementTypes;
@@ -26,15 +22,14 @@ import com.jetbrains.python.psi.types.PyClassLikeType;
 import com.jetbrains.python.psi.types.PyClassType;
 import com.jetbrains.python.psi.types.PyType;
 import com.jetbrains.python.psi.types.TypeEvalContext;
-import com.pty4j.util.Pair;
 import dev.ngocta.pycharm.odoo.OdooNames;
+import dev.ngocta.pycharm.odoo.python.module.OdooModule;
+import dev.ngocta.pycharm.odoo.python.module.OdooModuleUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.swing.*;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 public class OdooModelClass extends FakePsiElement implements PyClass {
     private final String myName;
@@ -49,17 +44,20 @@ public class OdooModelClass extends FakePsiElement implements PyClass {
         myElement = element;
     }
 
+    @NotNull
+    static OdooModelClass create(@NotNull String model,
+                                 @NotNull Project project) {
+        return new OdooModelClass(model, project, null);
+    }
+
+    @NotNull
     public static OdooModelClass getInstance(@NotNull String model,
                                              @NotNull Project project) {
-        ConcurrentMap<String, OdooModelClass> registry = CachedValuesManager.getManager(project).getCachedValue(project, () -> {
-            return CachedValueProvider.Result.create(new ConcurrentHashMap<>(), ModificationTracker.NEVER_CHANGED);
-        });
-        OdooModelClass cls = registry.get(model);
-        if (cls == null) {
-            cls = new OdooModelClass(model, project, null);
-            registry.put(model, cls);
-        }
-        return cls;
+        return OdooModelClassRegistry.getInstance(project).getModelClass(model);
+    }
+
+    int getCachedValueCount() {
+        return getUserMap().getKeys().length;
     }
 
     @Nullable
@@ -74,7 +72,13 @@ public class OdooModelClass extends FakePsiElement implements PyClass {
         if (context == null) {
             return Collections.emptyList();
         }
-        List<PyClass> result = new LinkedList<>(getExplicitAncestorClasses(context));
+        return getAncestorClasses(context, new HashSet<>());
+    }
+
+    @NotNull
+    private List<PyClass> getAncestorClasses(@NotNull TypeEvalContext context,
+                                             @NotNull Set<String> dependencies) {
+        List<PyClass> result = new LinkedList<>(getExplicitAncestorClasses(context, dependencies));
         if (OdooNames.BASE_MODEL.equals(myName)) {
             PyClass baseModelClass = OdooModelUtils.getBaseModelClass(context.getOrigin());
             if (baseModelClass != null) {
@@ -86,30 +90,46 @@ public class OdooModelClass extends FakePsiElement implements PyClass {
                 }
             }
         } else {
-            List<PyClass> modelBaseAncestors = getInstance(OdooNames.BASE_MODEL, myProject).getAncestorClasses(context);
+            List<PyClass> modelBaseAncestors = getInstance(OdooNames.BASE_MODEL, myProject).getAncestorClasses(context, dependencies);
             result.addAll(modelBaseAncestors);
         }
         return result;
     }
 
     private List<PyClass> getExplicitAncestorClasses(@NotNull TypeEvalContext context) {
+        return getExplicitAncestorClasses(context, new HashSet<>());
+    }
+
+    private List<PyClass> getExplicitAncestorClasses(@NotNull TypeEvalContext context,
+                                                     @NotNull Set<String> dependencies) {
+        OdooModule module = OdooModuleUtils.getContainingOdooModule(context.getOrigin());
+        if (module != null) {
+            return OdooModelCache.getInstance(myProject).getCachedValue("ancestors", myName, module, dependencies, models -> {
+                return getExplicitAncestorClassesInner(context, models);
+            });
+        }
         return PyUtil.getParameterizedCachedValue(this, context.getOrigin(), param -> {
-            List<PyClass> result = new LinkedList<>();
-            PyClass[] classes = getSuperClasses(context);
-            for (PyClass cls : classes) {
-                if (cls instanceof OdooModelClass) {
-                    result.addAll(((OdooModelClass) cls).getExplicitAncestorClasses(context));
-                } else {
-                    result.add(cls);
-                    for (PyClass subCls : cls.getSuperClasses(context)) {
-                        if (!subCls.isSubclass(OdooNames.BASE_MODEL_CLASS_QNAME, context)) {
-                            result.add(subCls);
-                        }
+            return getExplicitAncestorClassesInner(context, dependencies);
+        });
+    }
+
+    private List<PyClass> getExplicitAncestorClassesInner(@NotNull TypeEvalContext context,
+                                                          @NotNull Set<String> dependencies) {
+        List<PyClass> result = new LinkedList<>();
+        PyClass[] classes = getSuperClasses(context);
+        for (PyClass cls : classes) {
+            if (cls instanceof OdooModelClass) {
+                result.addAll(((OdooModelClass) cls).getExplicitAncestorClasses(context, dependencies));
+            } else {
+                result.add(cls);
+                for (PyClass subCls : cls.getSuperClasses(context)) {
+                    if (!subCls.isSubclass(OdooNames.BASE_MODEL_CLASS_QNAME, context)) {
+                        result.add(subCls);
                     }
                 }
             }
-            return result;
-        });
+        }
+        return result;
     }
 
     @NotNull
@@ -131,7 +151,7 @@ public class OdooModelClass extends FakePsiElement implements PyClass {
         List<PyClass> modelClasses = Lists.newArrayList(OdooModelIndex.getAvailableOdooModelClassesByName(getName(), file));
         List<String> superModels = new LinkedList<>();
         Lists.reverse(modelClasses).forEach(modelClass -> {
-            OdooModelInfo info = OdooModelInfo.getInfo(modelClass);
+            OdooModelInfo info = OdooModelIndex.getOdooModelInfo(modelClass);
             if (info != null) {
                 info.getInherit().forEach(inherit -> {
                     if (!inherit.equals(getName()) && !superModels.contains(inherit)) {
@@ -523,16 +543,52 @@ public class OdooModelClass extends FakePsiElement implements PyClass {
 
     @NotNull
     public List<OdooModelClass> getDelegationChildren(@NotNull TypeEvalContext context) {
-        Set<String> children = new HashSet<>();
-        getExplicitAncestorClasses(context).forEach(cls -> {
+        return getDelegationChildren(context, new HashSet<>());
+    }
+
+    @NotNull
+    private List<OdooModelClass> getDelegationChildren(@NotNull TypeEvalContext context,
+                                                       @NotNull Set<String> dependencies) {
+        List<String> children;
+        OdooModule module = OdooModuleUtils.getContainingOdooModule(context.getOrigin());
+        if (module != null) {
+            children = OdooModelCache.getInstance(myProject).getCachedValue("delegations", myName, module, dependencies, models -> {
+                return getDelegationChildrenInner(context, models);
+            });
+        } else {
+            children = PyUtil.getParameterizedCachedValue(this, context.getOrigin(), param -> {
+                return getDelegationChildrenInner(context, dependencies);
+            });
+        }
+        List<OdooModelClass> result = new LinkedList<>();
+        children.forEach(child -> result.add(getInstance(child, myProject)));
+        return result;
+    }
+
+    @NotNull
+    private List<String> getDelegationChildrenInner(@NotNull TypeEvalContext context,
+                                                    @NotNull Set<String> dependencies) {
+        Set<String> children = new LinkedHashSet<>();
+        getExplicitAncestorClasses(context, dependencies).forEach(cls -> {
             OdooModelInfo info = OdooModelInfo.getInfo(cls);
             if (info != null) {
                 children.addAll(info.getInherits().keySet());
             }
         });
-        List<OdooModelClass> result = new LinkedList<>();
-        children.forEach(child -> result.add(getInstance(child, myProject)));
-        return result;
+        children.remove(myName);
+        return new ArrayList<>(children);
+    }
+
+    private void collectDelegatedModels(@NotNull TypeEvalContext context,
+                                        @NotNull Set<String> dependencies,
+                                        @NotNull Set<String> visitedModels,
+                                        @NotNull List<OdooModelClass> result) {
+        for (OdooModelClass child : getDelegationChildren(context, dependencies)) {
+            if (visitedModels.add(child.getName())) {
+                result.add(child);
+                child.collectDelegatedModels(context, dependencies, visitedModels, result);
+            }
+        }
     }
 
     public boolean visitMembers(@NotNull Processor<PsiElement> processor,
@@ -542,39 +598,66 @@ public class OdooModelClass extends FakePsiElement implements PyClass {
                 return false;
             }
         }
-        for (OdooModelClass cls : getDelegationChildren(context)) {
-            if (!cls.visitField(processor, context)) {
-                return false;
-            }
+        return getFieldTable(context).visitDelegatedDeclarations(processor);
+    }
+
+    @NotNull
+    public OdooModelFieldTable getFieldTable(@NotNull TypeEvalContext context) {
+        return getFieldTable(context, new HashSet<>());
+    }
+
+    @NotNull
+    private OdooModelFieldTable getFieldTable(@NotNull TypeEvalContext context,
+                                              @NotNull Set<String> dependencies) {
+        OdooModule module = OdooModuleUtils.getContainingOdooModule(context.getOrigin());
+        if (module != null) {
+            return OdooModelCache.getInstance(myProject).getCachedValue("fields", myName, module, dependencies, models -> {
+                return getFieldTableInner(context, models);
+            });
+        }
+        return PyUtil.getParameterizedCachedValue(this, context.getOrigin(), param -> {
+            return getFieldTableInner(context, dependencies);
+        });
+    }
+
+    @NotNull
+    private OdooModelFieldTable getFieldTableInner(@NotNull TypeEvalContext context,
+                                                   @NotNull Set<String> dependencies) {
+        List<PsiElement> fields = new ArrayList<>();
+        collectOwnFields(context, dependencies, fields);
+        int delegatedStart = fields.size();
+        Set<String> visitedModels = new HashSet<>();
+        visitedModels.add(myName);
+        List<OdooModelClass> delegatedModels = new ArrayList<>();
+        collectDelegatedModels(context, dependencies, visitedModels, delegatedModels);
+        for (OdooModelClass cls : delegatedModels) {
+            cls.collectOwnFields(context, dependencies, fields);
+        }
+        return OdooModelFieldTable.create(fields, delegatedStart);
+    }
+
+    private void collectOwnFields(@NotNull TypeEvalContext context,
+                                  @NotNull Set<String> dependencies,
+                                  @NotNull List<PsiElement> fields) {
+        for (PyClass cls : getAncestorClasses(context, dependencies)) {
+            cls.processClassLevelDeclarations((element, state) -> {
+                if (OdooFieldInfo.getInfo(element) != null) {
+                    fields.add(element);
+                }
+                return true;
+            });
         }
-        return true;
     }
 
     public boolean visitField(@NotNull Processor<PsiElement> processor,
                               @NotNull TypeEvalContext context) {
-        return visitMembers(element -> {
-            if (OdooFieldInfo.getInfo(element) != null) {
-                return processor.process(element);
-            }
-            return true;
-        }, context);
+        return getFieldTable(context).visitDeclarations(processor);
     }
 
     @Nullable
     public PsiElement findField(@NotNull String name,
                                 @NotNull TypeEvalContext context) {
-        return PyUtil.getNullableParameterizedCachedValue(this, Pair.create(context.getOrigin(), name), param -> {
-            Ref<PsiElement> ref = new Ref<>();
-            visitMembers(member -> {
-                OdooFieldInfo fieldInfo = OdooFieldInfo.getInfo(member);
-                if (fieldInfo != null && name.equals(fieldInfo.getName())) {
-                    ref.set(member);
-                    return false;
-                }
-                return true;
-            }, context);
-            return ref.get();
-        });
+        return getFieldTable(context).findField(name);
     }
 
     @Nullable
@@ -597,24 +680,7 @@ public class OdooModelClass extends FakePsiElement implements PyClass {
     @NotNull
     public List<PsiElement> findFieldsInPath(@NotNull String[] fieldNames,
                                              @NotNull TypeEvalContext context) {
-        return PyUtil.getParameterizedCachedValue(this, Pair.create(context.getOrigin(), fieldNames), param -> {
-            List<PsiElement> result = new LinkedList<>();
-            if (fieldNames.length == 0) {
-                return result;
-            }
-            String name = fieldNames[0];
-            PsiElement field = findField(name, context);
-            if (field != null) {
-                result.add(field);
-                PyType fieldType = OdooFieldInfo.getFieldType(field, context);
-                if (fieldType instanceof OdooModelClassType) {
-                    String[] remainingFieldNames = Arrays.copyOfRange(fieldNames, 1, fieldNames.length);
-                    OdooModelClass cls = ((OdooModelClassType) fieldType).getPyClass();
-                    result.addAll(cls.findFieldsInPath(remainingFieldNames, context));
-                }
-            }
-            return result;
-        });
+        return OdooFieldPathCache.getInstance(myProject).resolve(this, fieldNames, context);
     }
 
     @NotNull
@@ -0,0 +1,77 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.jetbrains.python.psi.PyClass;
+import com.jetbrains.python.psi.PyFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+
+public class OdooModelClassInfo {
+    private final String myClassName;
+    private final int myOrder;
+    private final int myOffset;
+    private final OdooModelInfo myModelInfo;
+
+    public OdooModelClassInfo(@Nullable String className,
+                              int order,
+                              int offset,
+                              @NotNull OdooModelInfo modelInfo) {
+        myClassName = className;
+        myOrder = order;
+        myOffset = offset;
+        myModelInfo = modelInfo;
+    }
+
+    @Nullable
+    public String getClassName() {
+        return myClassName;
+    }
+
+    public int getOrder() {
+        return myOrder;
+    }
+
+    public int getOffset() {
+        return myOffset;
+    }
+
+    @NotNull
+    public OdooModelInfo getModelInfo() {
+        return myModelInfo;
+    }
+
+    @Nullable
+    public PyClass findClass(@NotNull PyFile file) {
+        List<PyClass> classes = file.getTopLevelClasses();
+        if (myOrder < classes.size()) {
+            PyClass cls = classes.get(myOrder);
+            if (Objects.equals(cls.getName(), myClassName)) {
+                return cls;
+            }
+        }
+        for (PyClass cls : classes) {
+            if (Objects.equals(cls.getName(), myClassName)) {
+                return cls;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OdooModelClassInfo that = (OdooModelClassInfo) o;
+        return myOrder == that.myOrder &&
+                myOffset == that.myOffset &&
+                Objects.equals(myClassName, that.myClassName) &&
+                myModelInfo.equals(that.myModelInfo);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(myClassName, myOrder, myOffset, myModelInfo);
+    }
+}
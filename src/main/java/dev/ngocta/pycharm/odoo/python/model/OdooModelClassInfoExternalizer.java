@@ -0,0 +1,62 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import dev.ngocta.pycharm.odoo.OdooUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+
+class OdooModelClassInfoExternalizer implements DataExternalizer<List<OdooModelClassInfo>> {
+    public static final OdooModelClassInfoExternalizer INSTANCE = new OdooModelClassInfoExternalizer();
+
+    @Override
+    public void save(@NotNull DataOutput out,
+                     List<OdooModelClassInfo> value) throws IOException {
+        DataInputOutputUtil.writeINT(out, value.size());
+        for (OdooModelClassInfo classInfo : value) {
+            OdooUtils.writeNullableString(classInfo.getClassName(), out);
+            DataInputOutputUtil.writeINT(out, classInfo.getOrder());
+            DataInputOutputUtil.writeINT(out, classInfo.getOffset());
+            OdooModelInfo info = classInfo.getModelInfo();
+            out.writeUTF(info.getName());
+            DataInputOutputUtil.writeINT(out, info.getInherit().size());
+            for (String inherit : info.getInherit()) {
+                out.writeUTF(inherit);
+            }
+            DataInputOutputUtil.writeINT(out, info.getInherits().size());
+            for (Map.Entry<String, String> entry : info.getInherits().entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeUTF(entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public List<OdooModelClassInfo> read(@NotNull DataInput in) throws IOException {
+        int size = DataInputOutputUtil.readINT(in);
+        List<OdooModelClassInfo> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String className = OdooUtils.readNullableString(in);
+            int order = DataInputOutputUtil.readINT(in);
+            int offset = DataInputOutputUtil.readINT(in);
+            String name = in.readUTF();
+            int inheritSize = DataInputOutputUtil.readINT(in);
+            List<String> inherit = new ArrayList<>(inheritSize);
+            for (int j = 0; j < inheritSize; j++) {
+                inherit.add(in.readUTF());
+            }
+            int inheritsSize = DataInputOutputUtil.readINT(in);
+            Map<String, String> inherits = new LinkedHashMap<>();
+            for (int j = 0; j < inheritsSize; j++) {
+                inherits.put(in.readUTF(), in.readUTF());
+            }
+            OdooModelInfo info = new OdooModelInfo(name, inherit, inherits);
+            result.add(new OdooModelClassInfo(className, order, offset, info));
+        }
+        return result;
+    }
+}
@@ -11,8 +11,9 @@ import dev.ngocta.pycharm.odoo.python.module.OdooModule;
 import dev.ngocta.pycharm.odoo.python.module.OdooModuleUtils;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.LinkedList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class OdooModelClassInheritorsSearch implements QueryExecutor<PyClass, PyClassInheritorsSearch.SearchParameters> {
     @Override
@@ -31,27 +32,18 @@ public class OdooModelClassInheritorsSearch implements QueryExecutor<PyClass, Py
                 return true;
             }
             GlobalSearchScope scope = module.getOdooModuleWithExtensionsScope();
-            List<String> visitedModels = new LinkedList<>();
-            List<String> toVisitModels = new LinkedList<>();
-            toVisitModels.add(modelClass.getName());
-            while (!toVisitModels.isEmpty()) {
-                String name = toVisitModels.remove(0);
+            Set<PyClass> excludedClasses = new HashSet<>(ancestors);
+            excludedClasses.add(superClass);
+            OdooModelInheritanceGraph graph = OdooModelInheritanceGraph.getInstance(project);
+            for (String name : graph.getDescendantModels(modelClass.getName(), scope)) {
                 List<PyClass> classes = OdooModelIndex.getOdooModelClassesByName(name, project, scope);
-                classes.removeIf(cls -> superClass.equals(cls) || ancestors.contains(cls));
+                classes.removeIf(excludedClasses::contains);
                 classes = OdooModuleUtils.sortElementByOdooModuleDependOrder(classes, true);
                 for (PyClass cls : classes) {
                     if (!consumer.process(cls)) {
                         return false;
                     }
                 }
-                visitedModels.add(name);
-                List<PyClass> inheritModelClasses = OdooModelInheritIndex.getOdooModelClassesByInheritModel(name, project, scope);
-                for (PyClass cls : inheritModelClasses) {
-                    OdooModelInfo info = OdooModelInfo.getInfo(cls);
-                    if (info != null && !visitedModels.contains(info.getName())) {
-                        toVisitModels.add(info.getName());
-                    }
-                }
             }
             return false;
         });
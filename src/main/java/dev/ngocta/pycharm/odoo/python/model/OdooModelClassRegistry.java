@@ -0,0 +1,39 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.util.containers.ContainerUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+public class OdooModelClassRegistry {
+    private final Project myProject;
+    private final Map<String, OdooModelClass> myClasses = ContainerUtil.createConcurrentWeakValueMap();
+
+    public OdooModelClassRegistry(@NotNull Project project) {
+        myProject = project;
+    }
+
+    @NotNull
+    public static OdooModelClassRegistry getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, OdooModelClassRegistry.class);
+    }
+
+    @NotNull
+    public OdooModelClass getModelClass(@NotNull String model) {
+        return myClasses.computeIfAbsent(model, k -> OdooModelClass.create(model, myProject));
+    }
+
+    public int size() {
+        return myClasses.size();
+    }
+
+    @NotNull
+    public Map<String, Integer> getCacheFootprint() {
+        Map<String, Integer> result = new TreeMap<>();
+        myClasses.forEach((model, cls) -> result.put(model, cls.getCachedValueCount()));
+        return result;
+    }
+}
@@ -0,0 +1,63 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import com.jetbrains.python.psi.stubs.PyCustomClassStub;
+import com.jetbrains.python.psi.stubs.PyCustomStubType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.*;
+
+public class OdooModelClassStub implements PyCustomClassStub {
+    private final OdooModelInfo myInfo;
+
+    public OdooModelClassStub(@NotNull OdooModelInfo info) {
+        myInfo = info;
+    }
+
+    @NotNull
+    public OdooModelInfo getInfo() {
+        return myInfo;
+    }
+
+    @NotNull
+    @Override
+    public Class<? extends PyCustomStubType> getTypeClass() {
+        return OdooModelClassStubType.class;
+    }
+
+    @Override
+    public void serialize(@NotNull StubOutputStream stream) throws IOException {
+        stream.writeName(myInfo.getName());
+        stream.writeVarInt(myInfo.getInherit().size());
+        for (String inherit : myInfo.getInherit()) {
+            stream.writeName(inherit);
+        }
+        stream.writeVarInt(myInfo.getInherits().size());
+        for (Map.Entry<String, String> entry : myInfo.getInherits().entrySet()) {
+            stream.writeName(entry.getKey());
+            stream.writeName(entry.getValue());
+        }
+    }
+
+    @Nullable
+    static OdooModelClassStub deserialize(@NotNull StubInputStream stream) throws IOException {
+        String name = stream.readNameString();
+        int inheritSize = stream.readVarInt();
+        List<String> inherit = new ArrayList<>(inheritSize);
+        for (int i = 0; i < inheritSize; i++) {
+            inherit.add(stream.readNameString());
+        }
+        int inheritsSize = stream.readVarInt();
+        Map<String, String> inherits = new LinkedHashMap<>();
+        for (int i = 0; i < inheritsSize; i++) {
+            inherits.put(stream.readNameString(), stream.readNameString());
+        }
+        if (name == null) {
+            return null;
+        }
+        return new OdooModelClassStub(new OdooModelInfo(name, inherit, inherits));
+    }
+}
@@ -0,0 +1,24 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.psi.stubs.StubInputStream;
+import com.jetbrains.python.psi.PyClass;
+import com.jetbrains.python.psi.stubs.PyCustomClassStubType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+
+public class OdooModelClassStubType implements PyCustomClassStubType<OdooModelClassStub> {
+    @Nullable
+    @Override
+    public OdooModelClassStub createStub(@NotNull PyClass psi) {
+        OdooModelInfo info = OdooModelInfo.readInfo(psi);
+        return info != null ? new OdooModelClassStub(info) : null;
+    }
+
+    @Nullable
+    @Override
+    public OdooModelClassStub deserializeStub(@NotNull StubInputStream stream) throws IOException {
+        return OdooModelClassStub.deserialize(stream);
+    }
+}
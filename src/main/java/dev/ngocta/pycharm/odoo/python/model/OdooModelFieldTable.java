@@ -0,0 +1,154 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.psi.PsiElement;
+import com.intellij.util.Processor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+public class OdooModelFieldTable {
+    public static final OdooModelFieldTable EMPTY = new OdooModelFieldTable(Collections.emptyList(), 0);
+
+    private final PsiElement[] myDeclarations;
+    private final int myDelegatedStart;
+    private final Entry[] myEntries;
+    private final Entry[] mySlots;
+    private final int myMask;
+
+    private OdooModelFieldTable(@NotNull List<PsiElement> declarations,
+                                int delegatedStart) {
+        myDeclarations = declarations.toArray(PsiElement.EMPTY_ARRAY);
+        myDelegatedStart = delegatedStart;
+        Map<String, List<PsiElement>> fields = new LinkedHashMap<>();
+        Map<String, OdooFieldInfo> infos = new HashMap<>();
+        for (PsiElement declaration : myDeclarations) {
+            OdooFieldInfo info = OdooFieldInfo.getInfo(declaration);
+            if (info != null) {
+                fields.computeIfAbsent(info.getName(), k -> new ArrayList<>()).add(declaration);
+                infos.putIfAbsent(info.getName(), info);
+            }
+        }
+        myEntries = new Entry[fields.size()];
+        int capacity = Integer.highestOneBit(Math.max(fields.size(), 1) * 2 - 1) << 1;
+        mySlots = new Entry[capacity];
+        myMask = capacity - 1;
+        int i = 0;
+        for (Map.Entry<String, List<PsiElement>> field : fields.entrySet()) {
+            List<PsiElement> elements = field.getValue();
+            OdooFieldInfo info = infos.get(field.getKey());
+            Entry entry = new Entry(field.getKey(),
+                    elements.get(0),
+                    Collections.unmodifiableList(elements.subList(1, elements.size())),
+                    info.getTypeName(),
+                    info.getDeclaredComodel());
+            myEntries[i++] = entry;
+            int slot = getSlot(entry.myName);
+            while (mySlots[slot] != null) {
+                slot = (slot + 1) & myMask;
+            }
+            mySlots[slot] = entry;
+        }
+    }
+
+    @NotNull
+    public static OdooModelFieldTable create(@NotNull List<PsiElement> declarations,
+                                             int delegatedStart) {
+        if (declarations.isEmpty()) {
+            return EMPTY;
+        }
+        return new OdooModelFieldTable(declarations, delegatedStart);
+    }
+
+    private int getSlot(@NotNull String name) {
+        int h = name.hashCode();
+        return (h ^ (h >>> 16)) & myMask;
+    }
+
+    @Nullable
+    public Entry getEntry(@NotNull String name) {
+        int slot = getSlot(name);
+        Entry entry;
+        while ((entry = mySlots[slot]) != null) {
+            if (entry.myName.equals(name)) {
+                return entry;
+            }
+            slot = (slot + 1) & myMask;
+        }
+        return null;
+    }
+
+    @Nullable
+    public PsiElement findField(@NotNull String name) {
+        Entry entry = getEntry(name);
+        return entry != null ? entry.myField : null;
+    }
+
+    @NotNull
+    public List<Entry> getEntries() {
+        return Collections.unmodifiableList(Arrays.asList(myEntries));
+    }
+
+    public boolean visitDeclarations(@NotNull Processor<PsiElement> processor) {
+        return visitDeclarations(processor, 0);
+    }
+
+    public boolean visitDelegatedDeclarations(@NotNull Processor<PsiElement> processor) {
+        return visitDeclarations(processor, myDelegatedStart);
+    }
+
+    private boolean visitDeclarations(@NotNull Processor<PsiElement> processor,
+                                      int start) {
+        for (int i = start; i < myDeclarations.length; i++) {
+            if (!processor.process(myDeclarations[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static class Entry {
+        private final String myName;
+        private final PsiElement myField;
+        private final List<PsiElement> myOverriddenFields;
+        private final String myTypeName;
+        private final String myComodel;
+
+        private Entry(@NotNull String name,
+                      @NotNull PsiElement field,
+                      @NotNull List<PsiElement> overriddenFields,
+                      @NotNull String typeName,
+                      @Nullable String comodel) {
+            myName = name;
+            myField = field;
+            myOverriddenFields = overriddenFields;
+            myTypeName = typeName;
+            myComodel = comodel;
+        }
+
+        @NotNull
+        public String getName() {
+            return myName;
+        }
+
+        @NotNull
+        public PsiElement getField() {
+            return myField;
+        }
+
+        @NotNull
+        public List<PsiElement> getOverriddenFields() {
+            return myOverriddenFields;
+        }
+
+        @NotNull
+        public String getTypeName() {
+            return myTypeName;
+        }
+
+        @Nullable
+        public String getComodel() {
+            return myComodel;
+        }
+    }
+}
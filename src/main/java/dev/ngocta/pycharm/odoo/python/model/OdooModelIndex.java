@@ -8,108 +8,65 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
 import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.util.indexing.*;
-import com.intellij.util.io.DataExternalizer;
-import com.intellij.util.io.EnumeratorStringDescriptor;
-import com.intellij.util.io.KeyDescriptor;
-import com.intellij.util.io.VoidDataExternalizer;
+import com.intellij.util.indexing.ID;
 import com.jetbrains.python.psi.PyClass;
-import com.jetbrains.python.psi.PyElementVisitor;
 import com.jetbrains.python.psi.PyFile;
 import com.jetbrains.python.psi.PyUtil;
+import dev.ngocta.pycharm.odoo.python.module.OdooModule;
 import dev.ngocta.pycharm.odoo.python.module.OdooModuleUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
-public class OdooModelIndex extends FileBasedIndexExtension<String, Void> {
-    public static final @NotNull ID<String, Void> NAME = ID.create("odoo.model");
-
-    @NotNull
-    @Override
-    public ID<String, Void> getName() {
-        return NAME;
-    }
-
+public class OdooModelIndex {
     @NotNull
-    @Override
-    public DataIndexer<String, Void, FileContent> getIndexer() {
-        return inputData -> {
-            Map<String, Void> result = new HashMap<>();
-            inputData.getPsiFile().acceptChildren(new PyElementVisitor() {
-                @Override
-                public void visitPyClass(PyClass cls) {
-                    super.visitPyClass(cls);
-                    OdooModelInfo info = OdooModelInfo.getInfo(cls);
-                    if (info != null) {
-                        result.putIfAbsent(info.getName(), null);
+    static List<PyClass> findOdooModelClasses(@NotNull ID<String, OdooPyFileSummary> kind,
+                                              @NotNull String key,
+                                              @NotNull Project project,
+                                              @NotNull GlobalSearchScope scope) {
+        List<PyClass> result = new LinkedList<>();
+        PsiManager psiManager = PsiManager.getInstance(project);
+        OdooPyFileSummaryIndex.processSummaries(kind, key, (file, value) -> {
+            PsiFile psiFile = psiManager.findFile(file);
+            if (psiFile instanceof PyFile) {
+                for (OdooModelClassInfo classInfo : Lists.reverse(value.getModelClasses())) {
+                    PyClass cls = classInfo.findClass((PyFile) psiFile);
+                    if (cls != null) {
+                        result.add(cls);
                     }
                 }
-            });
-            return result;
-        };
-    }
-
-    @NotNull
-    @Override
-    public KeyDescriptor<String> getKeyDescriptor() {
-        return EnumeratorStringDescriptor.INSTANCE;
-    }
-
-    @NotNull
-    @Override
-    public DataExternalizer<Void> getValueExternalizer() {
-        return VoidDataExternalizer.INSTANCE;
-    }
-
-    @Override
-    public int getVersion() {
-        return 8;
-    }
-
-    @NotNull
-    @Override
-    public FileBasedIndex.InputFilter getInputFilter() {
-        return new OdooModelInputFilter();
-    }
-
-    @Override
-    public boolean dependsOnFileContent() {
-        return true;
-    }
-
-    @NotNull
-    private static List<PyClass> getOdooModelClassesByNameInFile(@NotNull String model,
-                                                                 @NotNull PyFile file) {
-        List<PyClass> classes = new LinkedList<>();
-        file.acceptChildren(new PyElementVisitor() {
-            @Override
-            public void visitPyClass(PyClass cls) {
-                super.visitPyClass(cls);
-                OdooModelInfo info = OdooModelInfo.getInfo(cls);
-                if (info != null && info.getName().equals(model)) {
-                    classes.add(cls);
-                }
             }
-        });
-        return Lists.reverse(classes);
+            return true;
+        }, scope);
+        return result;
     }
 
     @NotNull
     public static List<PyClass> getOdooModelClassesByName(@NotNull String model,
                                                           @NotNull Project project,
                                                           @NotNull GlobalSearchScope scope) {
-        List<PyClass> result = new LinkedList<>();
-        Collection<VirtualFile> files = FileBasedIndex.getInstance().getContainingFiles(NAME, model, scope);
-        PsiManager psiManager = PsiManager.getInstance(project);
-        files.forEach(file -> {
-            PsiFile psiFile = psiManager.findFile(file);
-            if (psiFile instanceof PyFile) {
-                List<PyClass> classes = getOdooModelClassesByNameInFile(model, (PyFile) psiFile);
-                result.addAll(classes);
+        return findOdooModelClasses(OdooPyFileSummaryIndex.MODEL, model, project, scope);
+    }
+
+    @Nullable
+    public static OdooModelInfo getOdooModelInfo(@NotNull PyClass cls) {
+        PsiFile file = cls.getContainingFile();
+        VirtualFile virtualFile = file != null ? file.getVirtualFile() : null;
+        if (file instanceof PyFile && virtualFile != null) {
+            int order = ((PyFile) file).getTopLevelClasses().indexOf(cls);
+            if (order >= 0) {
+                Map<String, OdooPyFileSummary> data = OdooPyFileSummaryIndex.getFileData(OdooPyFileSummaryIndex.MODEL, virtualFile, file.getProject());
+                for (OdooPyFileSummary summary : data.values()) {
+                    for (OdooModelClassInfo classInfo : summary.getModelClasses()) {
+                        if (classInfo.getOrder() == order) {
+                            return classInfo.getModelInfo();
+                        }
+                    }
+                }
             }
-        });
-        return result;
+        }
+        return OdooModelInfo.getInfo(cls);
     }
 
     @NotNull
@@ -119,12 +76,22 @@ public class OdooModelIndex extends FileBasedIndexExtension<String, Void> {
         if (file == null) {
             return Collections.emptyList();
         }
-        return PyUtil.getParameterizedCachedValue(file, model, param -> {
-            GlobalSearchScope scope = OdooModuleUtils.getOdooModuleWithDependenciesOrSystemWideModulesScope(file);
-            List<PyClass> classes = getOdooModelClassesByName(model, anchor.getProject(), scope);
-            List<PyClass> sortedClasses = OdooModuleUtils.sortElementByOdooModuleDependOrder(classes);
-            return ImmutableList.copyOf(sortedClasses);
-        });
+        OdooModule module = OdooModuleUtils.getContainingOdooModule(file);
+        if (module != null) {
+            return OdooModelCache.getInstance(file.getProject()).getCachedValue("classes", model, module, new HashSet<>(), models -> {
+                return getAvailableOdooModelClassesByName(model, file);
+            });
+        }
+        return PyUtil.getParameterizedCachedValue(file, model, param -> getAvailableOdooModelClassesByName(model, file));
+    }
+
+    @NotNull
+    private static List<PyClass> getAvailableOdooModelClassesByName(@NotNull String model,
+                                                                    @NotNull PsiFile file) {
+        GlobalSearchScope scope = OdooModuleUtils.getOdooModuleWithDependenciesOrSystemWideModulesScope(file);
+        List<PyClass> classes = getOdooModelClassesByName(model, file.getProject(), scope);
+        List<PyClass> sortedClasses = OdooModuleUtils.sortElementByOdooModuleDependOrder(classes);
+        return ImmutableList.copyOf(sortedClasses);
     }
 
     @NotNull
@@ -137,18 +104,23 @@ public class OdooModelIndex extends FileBasedIndexExtension<String, Void> {
 
     @NotNull
     public static Collection<String> getAllOdooModels(@NotNull Project project) {
-        return FileBasedIndex.getInstance().getAllKeys(NAME, project);
+        return OdooPyFileSummaryIndex.getAllKeys(OdooPyFileSummaryIndex.MODEL, project);
+    }
+
+    public static boolean containsOdooModel(@NotNull String model,
+                                            @NotNull GlobalSearchScope scope) {
+        return !OdooPyFileSummaryIndex.processSummaries(OdooPyFileSummaryIndex.MODEL, model, (file, value) -> false, scope);
     }
 
     @NotNull
     private static Collection<String> filterOdooModels(@NotNull Collection<String> models,
                                                        @NotNull GlobalSearchScope scope) {
         Collection<String> result = new LinkedList<>();
-        FileBasedIndex index = FileBasedIndex.getInstance();
-        models.forEach(model -> index.processValues(NAME, model, null, (file, value) -> {
-            result.add(model);
-            return true;
-        }, scope));
+        models.forEach(model -> {
+            if (containsOdooModel(model, scope)) {
+                result.add(model);
+            }
+        });
         return result;
     }
 }
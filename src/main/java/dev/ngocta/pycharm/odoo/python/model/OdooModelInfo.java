@@ -3,6 +3,7 @@ package dev.ngocta.pycharm.odoo.python.model;
 import com.intellij.psi.util.CachedValueProvider;
 import com.intellij.psi.util.CachedValuesManager;
 import com.jetbrains.python.psi.*;
+import com.jetbrains.python.psi.stubs.PyClassStub;
 import dev.ngocta.pycharm.odoo.OdooNames;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -14,9 +15,9 @@ public class OdooModelInfo {
     private final List<String> myInherit;
     private final Map<String, String> myInherits;
 
-    private OdooModelInfo(@NotNull String name,
-                          @Nullable List<String> inherit,
-                          @Nullable Map<String, String> inherits) {
+    OdooModelInfo(@NotNull String name,
+                  @Nullable List<String> inherit,
+                  @Nullable Map<String, String> inherits) {
         myName = name;
         if (inherit == null) {
             inherit = Collections.emptyList();
@@ -57,36 +58,22 @@ public class OdooModelInfo {
 
     @Nullable
     private static OdooModelInfo getInfoInner(@NotNull PyClass pyClass) {
-        String model = null;
-        List<String> inherit = new LinkedList<>();
-        Map<String, String> inherits = new HashMap<>();
-
-        PyTargetExpression nameExpr = pyClass.findClassAttribute(OdooNames.MODEL_NAME, false, null);
-        if (nameExpr != null) {
-            PyExpression valueExpr = nameExpr.findAssignedValue();
-            if (valueExpr instanceof PyStringLiteralExpression) {
-                model = ((PyStringLiteralExpression) valueExpr).getStringValue();
-                if (model.isEmpty()) {
-                    return null;
-                }
-            }
-        }
-        PyTargetExpression inheritExpr = pyClass.findClassAttribute(OdooNames.MODEL_INHERIT, false, null);
-        if (inheritExpr != null) {
-            PyExpression valueExpr = inheritExpr.findAssignedValue();
-            if (valueExpr instanceof PyStringLiteralExpression) {
-                String inheritModel = ((PyStringLiteralExpression) valueExpr).getStringValue();
-                inherit = Collections.singletonList(inheritModel);
-            } else {
-                inherit = PyUtil.strListValue(valueExpr);
-            }
-            if (model == null && inherit != null && inherit.size() == 1) {
-                model = inherit.get(0);
-            }
+        PyClassStub stub = pyClass.getStub();
+        if (stub != null) {
+            OdooModelClassStub modelStub = stub.getCustomStub(OdooModelClassStub.class);
+            return modelStub != null ? modelStub.getInfo() : null;
         }
+        return readInfo(pyClass);
+    }
+
+    @Nullable
+    static OdooModelInfo readInfo(@NotNull PyClass pyClass) {
+        List<String> inherit = readInherit(pyClass);
+        String model = readName(pyClass, inherit);
         if (model == null) {
             return null;
         }
+        Map<String, String> inherits = new HashMap<>();
         PyTargetExpression inheritsExpr = pyClass.findClassAttribute(OdooNames.MODEL_INHERITS, false, null);
         if (inheritsExpr != null) {
             PyExpression valueExpr = inheritsExpr.findAssignedValue();
@@ -103,9 +90,9 @@ public class OdooModelInfo {
         pyClass.visitClassAttributes(attr -> {
             String attrName = attr.getName();
             if (attrName != null) {
-                OdooFieldInfo info = OdooFieldInfo.getInfo(attr);
-                if (info != null && info.isDelegate() && info.getComodel() != null) {
-                    inherits.put(info.getComodel(), attrName);
+                OdooFieldInfo info = OdooFieldInfo.readInfo(attr);
+                if (info != null && info.isDelegate() && info.getDeclaredComodel() != null) {
+                    inherits.put(info.getDeclaredComodel(), attrName);
                 }
             }
             return true;
@@ -113,4 +100,55 @@ public class OdooModelInfo {
 
         return new OdooModelInfo(model, inherit, inherits);
     }
+
+    @Nullable
+    static String readName(@NotNull PyClass pyClass) {
+        return readName(pyClass, readInherit(pyClass));
+    }
+
+    @Nullable
+    private static String readName(@NotNull PyClass pyClass,
+                                   @Nullable List<String> inherit) {
+        PyTargetExpression nameExpr = pyClass.findClassAttribute(OdooNames.MODEL_NAME, false, null);
+        if (nameExpr != null) {
+            PyExpression valueExpr = nameExpr.findAssignedValue();
+            if (valueExpr instanceof PyStringLiteralExpression) {
+                String model = ((PyStringLiteralExpression) valueExpr).getStringValue();
+                return model.isEmpty() ? null : model;
+            }
+        }
+        if (inherit != null && inherit.size() == 1) {
+            return inherit.get(0);
+        }
+        return null;
+    }
+
+    @Nullable
+    private static List<String> readInherit(@NotNull PyClass pyClass) {
+        PyTargetExpression inheritExpr = pyClass.findClassAttribute(OdooNames.MODEL_INHERIT, false, null);
+        if (inheritExpr != null) {
+            PyExpression valueExpr = inheritExpr.findAssignedValue();
+            if (valueExpr instanceof PyStringLiteralExpression) {
+                String inheritModel = ((PyStringLiteralExpression) valueExpr).getStringValue();
+                return Collections.singletonList(inheritModel);
+            }
+            return PyUtil.strListValue(valueExpr);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OdooModelInfo that = (OdooModelInfo) o;
+        return myName.equals(that.myName) &&
+                myInherit.equals(that.myInherit) &&
+                myInherits.equals(that.myInherits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(myName, myInherit, myInherits);
+    }
 }
@@ -0,0 +1,82 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import dev.ngocta.pycharm.odoo.python.module.OdooModuleGraph;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+public class OdooModelInheritanceGraph {
+    private final Map<String, List<Edge>> myChildren;
+
+    private OdooModelInheritanceGraph(@NotNull Map<String, List<Edge>> children) {
+        myChildren = children;
+    }
+
+    @NotNull
+    public static OdooModelInheritanceGraph getInstance(@NotNull Project project) {
+        return CachedValuesManager.getManager(project).getCachedValue(project, () -> {
+            OdooModelInheritanceGraph graph = build(project);
+            return CachedValueProvider.Result.create(graph, OdooModelCache.getInstance(project).getDeclarationTracker(), OdooModuleGraph.getInstance(project));
+        });
+    }
+
+    @NotNull
+    private static OdooModelInheritanceGraph build(@NotNull Project project) {
+        Map<String, List<Edge>> children = new HashMap<>();
+        GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+        for (String parent : OdooPyFileSummaryIndex.getAllKeys(OdooPyFileSummaryIndex.INHERIT, project)) {
+            OdooPyFileSummaryIndex.processSummaries(OdooPyFileSummaryIndex.INHERIT, parent, (file, value) -> {
+                for (OdooModelClassInfo classInfo : value.getModelClasses()) {
+                    children.computeIfAbsent(parent, k -> new ArrayList<>()).add(new Edge(classInfo.getModelInfo().getName(), file));
+                }
+                return true;
+            }, scope);
+        }
+        return new OdooModelInheritanceGraph(children);
+    }
+
+    @NotNull
+    public Set<String> getChildModels(@NotNull String model,
+                                      @NotNull GlobalSearchScope scope) {
+        Set<String> result = new LinkedHashSet<>();
+        for (Edge edge : myChildren.getOrDefault(model, Collections.emptyList())) {
+            if (edge.myFile.isValid() && scope.contains(edge.myFile)) {
+                result.add(edge.myModel);
+            }
+        }
+        return result;
+    }
+
+    @NotNull
+    public Set<String> getDescendantModels(@NotNull String model,
+                                           @NotNull GlobalSearchScope scope) {
+        Set<String> visited = new LinkedHashSet<>();
+        Deque<String> toVisit = new ArrayDeque<>();
+        toVisit.add(model);
+        visited.add(model);
+        while (!toVisit.isEmpty()) {
+            for (String child : getChildModels(toVisit.poll(), scope)) {
+                if (visited.add(child)) {
+                    toVisit.add(child);
+                }
+            }
+        }
+        return visited;
+    }
+
+    private static class Edge {
+        private final String myModel;
+        private final VirtualFile myFile;
+
+        private Edge(@NotNull String model,
+                     @NotNull VirtualFile file) {
+            myModel = model;
+            myFile = file;
+        }
+    }
+}
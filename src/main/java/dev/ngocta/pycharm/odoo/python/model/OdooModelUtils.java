@@ -537,6 +537,28 @@ public class OdooModelUtils {
     public static PyType guessFieldTypeByName(@NotNull String name,
                                               @NotNull PsiElement anchor,
                                               @NotNull TypeEvalContext context) {
+        Set<PyType> types = new HashSet<>();
+        for (OdooFieldDeclarationInfo declaration : OdooFieldIndex.getAvailableFieldDeclarations(name, anchor)) {
+            if (declaration.getComodel() == null && ArrayUtil.contains(declaration.getTypeName(), OdooNames.RELATIONAL_FIELD_TYPES)) {
+                return guessFieldTypeByNameFromFields(name, anchor, context);
+            }
+            Map<String, Object> attributes = new HashMap<>();
+            attributes.put(OdooNames.FIELD_ATTR_COMODEL_NAME, declaration.getComodel());
+            PyType type = new OdooFieldInfo(name, null, declaration.getTypeName(), attributes).getType(context);
+            if (type != null) {
+                types.add(type);
+            }
+        }
+        if (types.size() == 1) {
+            return types.iterator().next();
+        }
+        return null;
+    }
+
+    @Nullable
+    private static PyType guessFieldTypeByNameFromFields(@NotNull String name,
+                                                         @NotNull PsiElement anchor,
+                                                         @NotNull TypeEvalContext context) {
         Collection<PsiElement> fields = findFields(name, anchor);
         Set<PyType> types = new HashSet<>();
         for (PsiElement field : fields) {
@@ -592,15 +614,14 @@ public class OdooModelUtils {
     @NotNull
     public static Object[] getFieldLookupElements(@NotNull OdooModelClass cls,
                                                   @NotNull TypeEvalContext context) {
-        Map<String, LookupElement> lookupElementMap = new LinkedHashMap<>();
-        cls.visitField(field -> {
-            LookupElement lookupElement = createLookupElement(field, context);
+        List<LookupElement> lookupElements = new LinkedList<>();
+        for (OdooModelFieldTable.Entry entry : cls.getFieldTable(context).getEntries()) {
+            LookupElement lookupElement = createLookupElement(entry.getField(), context);
             if (lookupElement != null) {
-                lookupElementMap.putIfAbsent(lookupElement.getLookupString(), lookupElement);
+                lookupElements.add(lookupElement);
             }
-            return true;
-        }, context);
-        return lookupElementMap.values().toArray();
+        }
+        return lookupElements.toArray();
     }
 
     @NotNull
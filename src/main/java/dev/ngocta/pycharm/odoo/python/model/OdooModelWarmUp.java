@@ -0,0 +1,129 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.jetbrains.python.psi.PyClass;
+import com.jetbrains.python.psi.types.TypeEvalContext;
+import dev.ngocta.pycharm.odoo.python.module.OdooModule;
+import dev.ngocta.pycharm.odoo.python.module.OdooModuleUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class OdooModelWarmUp {
+    private static final Logger LOG = Logger.getInstance(OdooModelWarmUp.class);
+
+    private final Project myProject;
+
+    public OdooModelWarmUp(@NotNull Project project) {
+        myProject = project;
+    }
+
+    @NotNull
+    public static OdooModelWarmUp getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, OdooModelWarmUp.class);
+    }
+
+    public void queue() {
+        if (!OdooModelWarmUpSettings.getInstance().isEnabled() || myProject.isDisposed()) {
+            return;
+        }
+        ProgressManager.getInstance().run(new Task.Backgroundable(myProject, "Resolving Odoo models", true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                warmUp(indicator);
+            }
+        });
+    }
+
+    private void warmUp(@NotNull ProgressIndicator indicator) {
+        long start = System.currentTimeMillis();
+        indicator.setIndeterminate(false);
+        List<String> models = ReadAction.nonBlocking(() -> new ArrayList<>(OdooModelIndex.getAllOdooModels(myProject)))
+                .inSmartMode(myProject)
+                .wrapProgress(indicator)
+                .executeSynchronously();
+        int threadCount = OdooModelWarmUpSettings.getInstance().getThreadCount();
+        ExecutorService executor = AppExecutorUtil.createBoundedApplicationPoolExecutor("Odoo Model Warm-Up", threadCount);
+        AtomicInteger done = new AtomicInteger();
+        AtomicInteger resolved = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>(models.size());
+        try {
+            for (String model : models) {
+                futures.add(executor.submit(() -> {
+                    indicator.checkCanceled();
+                    boolean warmedUp = ReadAction.nonBlocking(() -> warmUpModel(model))
+                            .inSmartMode(myProject)
+                            .wrapProgress(indicator)
+                            .executeSynchronously();
+                    if (warmedUp) {
+                        resolved.incrementAndGet();
+                    }
+                    indicator.setText2(model);
+                    indicator.setFraction((double) done.incrementAndGet() / models.size());
+                }));
+            }
+            for (Future<?> future : futures) {
+                indicator.checkCanceled();
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (ExecutionException e) {
+                    if (!(e.getCause() instanceof ProcessCanceledException)) {
+                        LOG.warn("Failed to resolve Odoo model", e.getCause());
+                    }
+                }
+            }
+        } finally {
+            futures.forEach(future -> future.cancel(false));
+            executor.shutdownNow();
+        }
+        LOG.info("Resolved " + resolved.get() + " of " + models.size() + " Odoo models in "
+                + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    private boolean warmUpModel(@NotNull String model) {
+        OdooModelCache cache = OdooModelCache.getInstance(myProject);
+        if (cache.isHalfFull()) {
+            return false;
+        }
+        List<PyClass> classes = OdooModelIndex.getOdooModelClassesByName(model, myProject, GlobalSearchScope.allScope(myProject));
+        if (classes.isEmpty()) {
+            return false;
+        }
+        Set<PsiFile> origins = new LinkedHashSet<>();
+        for (PyClass cls : classes) {
+            OdooModule module = OdooModuleUtils.getContainingOdooModule(cls);
+            PsiFile manifest = module != null ? module.getManifest() : null;
+            origins.add(manifest != null ? manifest : cls.getContainingFile());
+        }
+        OdooModelClass modelClass = OdooModelClass.getInstance(model, myProject);
+        for (PsiFile origin : origins) {
+            ProgressManager.checkCanceled();
+            if (cache.isHalfFull()) {
+                return false;
+            }
+            TypeEvalContext context = TypeEvalContext.codeAnalysis(myProject, origin);
+            modelClass.getFieldTable(context);
+        }
+        return true;
+    }
+}
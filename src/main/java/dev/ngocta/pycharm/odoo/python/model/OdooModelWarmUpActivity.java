@@ -0,0 +1,13 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.startup.StartupActivity;
+import org.jetbrains.annotations.NotNull;
+
+public class OdooModelWarmUpActivity implements StartupActivity {
+    @Override
+    public void runActivity(@NotNull Project project) {
+        DumbService.getInstance(project).runWhenSmart(() -> OdooModelWarmUp.getInstance(project).queue());
+    }
+}
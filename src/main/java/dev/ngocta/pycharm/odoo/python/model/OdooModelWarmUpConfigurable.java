@@ -0,0 +1,70 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.openapi.options.Configurable;
+import com.intellij.ui.components.JBCheckBox;
+import com.intellij.ui.components.JBLabel;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import java.awt.*;
+
+public class OdooModelWarmUpConfigurable implements Configurable {
+    private JBCheckBox myEnabledCheckBox;
+    private JSpinner myCpuBudgetSpinner;
+
+    @Nls(capitalization = Nls.Capitalization.Title)
+    @Override
+    public String getDisplayName() {
+        return "Odoo Model Warm-Up";
+    }
+
+    @Nullable
+    @Override
+    public JComponent createComponent() {
+        myEnabledCheckBox = new JBCheckBox("Resolve Odoo models in the background after indexing");
+        myCpuBudgetSpinner = new JSpinner(new SpinnerNumberModel(50, 1, 100, 5));
+        myEnabledCheckBox.addActionListener(e -> myCpuBudgetSpinner.setEnabled(myEnabledCheckBox.isSelected()));
+        JPanel budgetPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
+        budgetPanel.add(new JBLabel("CPU budget (% of processors): "));
+        budgetPanel.add(myCpuBudgetSpinner);
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.add(myEnabledCheckBox, BorderLayout.NORTH);
+        panel.add(budgetPanel, BorderLayout.CENTER);
+        JPanel wrapper = new JPanel(new BorderLayout());
+        wrapper.add(panel, BorderLayout.NORTH);
+        reset();
+        return wrapper;
+    }
+
+    @Override
+    public boolean isModified() {
+        OdooModelWarmUpSettings settings = OdooModelWarmUpSettings.getInstance();
+        return myEnabledCheckBox.isSelected() != settings.isEnabled()
+                || (Integer) myCpuBudgetSpinner.getValue() != settings.getCpuBudget();
+    }
+
+    @Override
+    public void apply() {
+        OdooModelWarmUpSettings settings = OdooModelWarmUpSettings.getInstance();
+        settings.setEnabled(myEnabledCheckBox.isSelected());
+        settings.setCpuBudget((Integer) myCpuBudgetSpinner.getValue());
+    }
+
+    @Override
+    public void reset() {
+        if (myEnabledCheckBox == null) {
+            return;
+        }
+        OdooModelWarmUpSettings settings = OdooModelWarmUpSettings.getInstance();
+        myEnabledCheckBox.setSelected(settings.isEnabled());
+        myCpuBudgetSpinner.setValue(Math.max(1, Math.min(100, settings.getCpuBudget())));
+        myCpuBudgetSpinner.setEnabled(settings.isEnabled());
+    }
+
+    @Override
+    public void disposeUIResources() {
+        myEnabledCheckBox = null;
+        myCpuBudgetSpinner = null;
+    }
+}
@@ -0,0 +1,55 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.openapi.components.PersistentStateComponent;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.components.State;
+import com.intellij.openapi.components.Storage;
+import org.jetbrains.annotations.NotNull;
+
+@State(name = "OdooModelWarmUpSettings", storages = @Storage("odoo.xml"))
+public class OdooModelWarmUpSettings implements PersistentStateComponent<OdooModelWarmUpSettings.State> {
+    private State myState = new State();
+
+    @NotNull
+    public static OdooModelWarmUpSettings getInstance() {
+        return ServiceManager.getService(OdooModelWarmUpSettings.class);
+    }
+
+    @NotNull
+    @Override
+    public State getState() {
+        return myState;
+    }
+
+    @Override
+    public void loadState(@NotNull State state) {
+        myState = state;
+    }
+
+    public boolean isEnabled() {
+        return myState.enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        myState.enabled = enabled;
+    }
+
+    public int getCpuBudget() {
+        return myState.cpuBudget;
+    }
+
+    public void setCpuBudget(int cpuBudget) {
+        myState.cpuBudget = cpuBudget;
+    }
+
+    public int getThreadCount() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        int budget = Math.max(1, Math.min(100, myState.cpuBudget));
+        return Math.max(1, processors * budget / 100);
+    }
+
+    public static class State {
+        public boolean enabled = true;
+        public int cpuBudget = 50;
+    }
+}
@@ -0,0 +1,43 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+
+public class OdooPyFileSummary {
+    public static final OdooPyFileSummary EMPTY = new OdooPyFileSummary(Collections.emptyList(), Collections.emptyList());
+
+    private final List<OdooModelClassInfo> myModelClasses;
+    private final List<OdooFieldDeclarationInfo> myFields;
+
+    public OdooPyFileSummary(@NotNull List<OdooModelClassInfo> modelClasses,
+                             @NotNull List<OdooFieldDeclarationInfo> fields) {
+        myModelClasses = modelClasses;
+        myFields = fields;
+    }
+
+    @NotNull
+    public List<OdooModelClassInfo> getModelClasses() {
+        return myModelClasses;
+    }
+
+    @NotNull
+    public List<OdooFieldDeclarationInfo> getFields() {
+        return myFields;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OdooPyFileSummary that = (OdooPyFileSummary) o;
+        return myModelClasses.equals(that.myModelClasses) &&
+                myFields.equals(that.myFields);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * myModelClasses.hashCode() + myFields.hashCode();
+    }
+}
@@ -0,0 +1,30 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.util.io.DataExternalizer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+
+class OdooPyFileSummaryExternalizer implements DataExternalizer<OdooPyFileSummary> {
+    public static final OdooPyFileSummaryExternalizer INSTANCE = new OdooPyFileSummaryExternalizer();
+
+    @Override
+    public void save(@NotNull DataOutput out,
+                     OdooPyFileSummary value) throws IOException {
+        OdooModelClassInfoExternalizer.INSTANCE.save(out, value.getModelClasses());
+        OdooFieldDeclarationInfoExternalizer.INSTANCE.save(out, value.getFields());
+    }
+
+    @Override
+    public OdooPyFileSummary read(@NotNull DataInput in) throws IOException {
+        List<OdooModelClassInfo> modelClasses = OdooModelClassInfoExternalizer.INSTANCE.read(in);
+        List<OdooFieldDeclarationInfo> fields = OdooFieldDeclarationInfoExternalizer.INSTANCE.read(in);
+        if (modelClasses.isEmpty() && fields.isEmpty()) {
+            return OdooPyFileSummary.EMPTY;
+        }
+        return new OdooPyFileSummary(modelClasses, fields);
+    }
+}
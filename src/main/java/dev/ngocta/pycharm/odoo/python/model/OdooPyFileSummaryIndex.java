@@ -0,0 +1,234 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.ObjectUtils;
+import com.intellij.util.Processor;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.jetbrains.python.PythonFileType;
+import com.jetbrains.python.psi.PyCallExpression;
+import com.jetbrains.python.psi.PyClass;
+import com.jetbrains.python.psi.PyFile;
+import com.jetbrains.python.psi.PyTargetExpression;
+import dev.ngocta.pycharm.odoo.OdooNames;
+import dev.ngocta.pycharm.odoo.python.module.OdooModuleInputFilter;
+import dev.ngocta.pycharm.odoo.python.module.OdooModuleUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+public abstract class OdooPyFileSummaryIndex extends FileBasedIndexExtension<String, OdooPyFileSummary> {
+    public static final @NotNull ID<String, OdooPyFileSummary> MODEL = ID.create("odoo.py.model");
+    public static final @NotNull ID<String, OdooPyFileSummary> INHERIT = ID.create("odoo.py.inherit");
+    public static final @NotNull ID<String, OdooPyFileSummary> FIELD = ID.create("odoo.py.field");
+    public static final @NotNull ID<String, OdooPyFileSummary> EXTERNAL_ID = ID.create("odoo.py.xmlid");
+    public static final @NotNull ID<String, OdooPyFileSummary> MODULE = ID.create("odoo.py.module");
+    private static final Key<Map<ID<String, OdooPyFileSummary>, Map<String, OdooPyFileSummary>>> SUMMARIES = Key.create("odoo.py.summaries");
+
+    private final ID<String, OdooPyFileSummary> myKind;
+
+    protected OdooPyFileSummaryIndex(@NotNull ID<String, OdooPyFileSummary> kind) {
+        myKind = kind;
+    }
+
+    @NotNull
+    @Override
+    public ID<String, OdooPyFileSummary> getName() {
+        return myKind;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, OdooPyFileSummary, FileContent> getIndexer() {
+        return inputData -> getSummaries(inputData).getOrDefault(myKind, Collections.emptyMap());
+    }
+
+    @NotNull
+    private static Map<ID<String, OdooPyFileSummary>, Map<String, OdooPyFileSummary>> getSummaries(@NotNull FileContent inputData) {
+        Map<ID<String, OdooPyFileSummary>, Map<String, OdooPyFileSummary>> summaries = inputData.getUserData(SUMMARIES);
+        if (summaries == null) {
+            summaries = computeSummaries(inputData);
+            inputData.putUserData(SUMMARIES, summaries);
+        }
+        return summaries;
+    }
+
+    @NotNull
+    private static Map<ID<String, OdooPyFileSummary>, Map<String, OdooPyFileSummary>> computeSummaries(@NotNull FileContent inputData) {
+        Map<ID<String, OdooPyFileSummary>, Map<String, OdooPyFileSummary>> result = new HashMap<>();
+        PsiFile file = inputData.getPsiFile();
+        if (!(file instanceof PyFile)) {
+            return result;
+        }
+        VirtualFile moduleDirectory = OdooModuleUtils.getContainingOdooModuleDirectory(inputData.getFile());
+        Map<String, List<OdooModelClassInfo>> models = new HashMap<>();
+        Map<String, List<OdooModelClassInfo>> inherits = new HashMap<>();
+        Map<String, List<OdooFieldDeclarationInfo>> fields = new HashMap<>();
+        List<PyClass> classes = ((PyFile) file).getTopLevelClasses();
+        for (int i = 0; i < classes.size(); i++) {
+            PyClass cls = classes.get(i);
+            OdooModelInfo info = OdooModelInfo.getInfo(cls);
+            if (info == null) {
+                continue;
+            }
+            OdooModelClassInfo classInfo = new OdooModelClassInfo(cls.getName(), i, cls.getTextOffset(), info);
+            models.computeIfAbsent(info.getName(), k -> new ArrayList<>()).add(classInfo);
+            for (String inherit : info.getInherit()) {
+                if (!inherit.equals(info.getName())) {
+                    inherits.computeIfAbsent(inherit, k -> new ArrayList<>()).add(classInfo);
+                }
+            }
+            for (PyTargetExpression attribute : cls.getClassAttributes()) {
+                OdooFieldInfo fieldInfo = OdooFieldInfo.getInfo(attribute);
+                if (fieldInfo != null && attribute.getName() != null) {
+                    OdooFieldDeclarationInfo declarationInfo = getDeclarationInfo(info.getName(), fieldInfo, attribute);
+                    fields.computeIfAbsent(attribute.getName(), k -> new ArrayList<>()).add(declarationInfo);
+                }
+            }
+        }
+        Map<String, OdooPyFileSummary> modelSummaries = new HashMap<>();
+        Map<String, OdooPyFileSummary> externalIdSummaries = new HashMap<>();
+        Map<String, OdooPyFileSummary> inheritSummaries = new HashMap<>();
+        Map<String, OdooPyFileSummary> fieldSummaries = new HashMap<>();
+        Map<String, OdooPyFileSummary> moduleSummaries = new HashMap<>();
+        models.forEach((model, value) -> {
+            modelSummaries.put(model, new OdooPyFileSummary(value, Collections.emptyList()));
+            if (moduleDirectory != null) {
+                String id = moduleDirectory.getName() + "." + OdooModelUtils.getExternalIdOfModel(model);
+                externalIdSummaries.put(id, new OdooPyFileSummary(value, Collections.emptyList()));
+            }
+        });
+        inherits.forEach((model, value) -> {
+            inheritSummaries.put(model, new OdooPyFileSummary(value, Collections.emptyList()));
+        });
+        fields.forEach((name, value) -> {
+            fieldSummaries.put(name, new OdooPyFileSummary(Collections.emptyList(), value));
+        });
+        result.put(MODEL, modelSummaries);
+        result.put(EXTERNAL_ID, externalIdSummaries);
+        result.put(INHERIT, inheritSummaries);
+        result.put(FIELD, fieldSummaries);
+        if (moduleDirectory != null && !models.isEmpty()) {
+            moduleSummaries.put(moduleDirectory.getName(), new OdooPyFileSummary(Collections.emptyList(), Collections.emptyList()));
+        }
+        result.put(MODULE, moduleSummaries);
+        return result;
+    }
+
+    @NotNull
+    private static OdooFieldDeclarationInfo getDeclarationInfo(@NotNull String model,
+                                                               @NotNull OdooFieldInfo info,
+                                                               @NotNull PyTargetExpression attribute) {
+        String compute = null;
+        boolean store = info.getRelated() == null;
+        boolean index = false;
+        boolean required = false;
+        PyCallExpression callExpression = ObjectUtils.tryCast(attribute.findAssignedValue(), PyCallExpression.class);
+        if (callExpression != null) {
+            compute = OdooFieldInfo.getCallArgumentStringValue(callExpression, OdooNames.FIELD_ATTR_COMPUTE);
+            store = OdooFieldInfo.getCallArgumentBooleanValue(callExpression, OdooNames.FIELD_ATTR_STORE, compute == null && store);
+            index = OdooFieldInfo.getCallArgumentBooleanValue(callExpression, OdooNames.FIELD_ATTR_INDEX, false);
+            required = OdooFieldInfo.getCallArgumentBooleanValue(callExpression, OdooNames.FIELD_ATTR_REQUIRED, false);
+        }
+        return new OdooFieldDeclarationInfo(model, info.getTypeName(), info.getDeclaredComodel(), info.getRelated(), compute, store, index, required);
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<OdooPyFileSummary> getValueExternalizer() {
+        return OdooPyFileSummaryExternalizer.INSTANCE;
+    }
+
+    @Override
+    public int getVersion() {
+        return 5;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return new OdooModuleInputFilter(PythonFileType.INSTANCE);
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    public static boolean processSummaries(@NotNull ID<String, OdooPyFileSummary> kind,
+                                           @NotNull String key,
+                                           @NotNull FileBasedIndex.ValueProcessor<OdooPyFileSummary> processor,
+                                           @NotNull GlobalSearchScope scope) {
+        return FileBasedIndex.getInstance().processValues(kind, key, null, processor, scope);
+    }
+
+    @NotNull
+    public static Collection<String> getAllKeys(@NotNull ID<String, OdooPyFileSummary> kind,
+                                                @NotNull Project project) {
+        return FileBasedIndex.getInstance().getAllKeys(kind, project);
+    }
+
+    @NotNull
+    public static Collection<VirtualFile> getContainingFiles(@NotNull ID<String, OdooPyFileSummary> kind,
+                                                             @NotNull String key,
+                                                             @NotNull GlobalSearchScope scope) {
+        return FileBasedIndex.getInstance().getContainingFiles(kind, key, scope);
+    }
+
+    public static boolean processAllKeys(@NotNull ID<String, OdooPyFileSummary> kind,
+                                         @NotNull Processor<String> processor,
+                                         @NotNull GlobalSearchScope scope,
+                                         @Nullable IdFilter filter) {
+        return FileBasedIndex.getInstance().processAllKeys(kind, processor, scope, filter);
+    }
+
+    @NotNull
+    public static Map<String, OdooPyFileSummary> getFileData(@NotNull ID<String, OdooPyFileSummary> kind,
+                                                             @NotNull VirtualFile file,
+                                                             @NotNull Project project) {
+        return FileBasedIndex.getInstance().getFileData(kind, file, project);
+    }
+
+    public static class Model extends OdooPyFileSummaryIndex {
+        public Model() {
+            super(MODEL);
+        }
+    }
+
+    public static class Inherit extends OdooPyFileSummaryIndex {
+        public Inherit() {
+            super(INHERIT);
+        }
+    }
+
+    public static class Field extends OdooPyFileSummaryIndex {
+        public Field() {
+            super(FIELD);
+        }
+    }
+
+    public static class ExternalId extends OdooPyFileSummaryIndex {
+        public ExternalId() {
+            super(EXTERNAL_ID);
+        }
+    }
+
+    public static class Module extends OdooPyFileSummaryIndex {
+        public Module() {
+            super(MODULE);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package dev.ngocta.pycharm.odoo.python.module;
+
+import com.intellij.openapi.fileChooser.FileChooser;
+import com.intellij.openapi.fileChooser.FileChooserDescriptorFactory;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.options.Configurable;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.ComboBox;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.ui.CollectionListModel;
+import com.intellij.ui.SimpleListCellRenderer;
+import com.intellij.ui.ToolbarDecorator;
+import com.intellij.ui.components.JBList;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class OdooAddonsPathConfigurable implements Configurable {
+    private final Project myProject;
+    private final Map<Module, List<VirtualFile>> myAddonsPaths = new LinkedHashMap<>();
+    private final CollectionListModel<VirtualFile> myListModel = new CollectionListModel<>();
+    private ComboBox<Module> myModuleComboBox;
+    private Module myCurrentModule;
+
+    public OdooAddonsPathConfigurable(@NotNull Project project) {
+        myProject = project;
+    }
+
+    @Nls(capitalization = Nls.Capitalization.Title)
+    @Override
+    public String getDisplayName() {
+        return "Odoo Addons Paths";
+    }
+
+    @Nullable
+    @Override
+    public JComponent createComponent() {
+        myModuleComboBox = new ComboBox<>(ModuleManager.getInstance(myProject).getModules());
+        myModuleComboBox.setRenderer(SimpleListCellRenderer.create("", Module::getName));
+        myModuleComboBox.addActionListener(e -> selectModule((Module) myModuleComboBox.getSelectedItem()));
+        JBList<VirtualFile> list = new JBList<>(myListModel);
+        list.setCellRenderer(SimpleListCellRenderer.create("", VirtualFile::getPresentableUrl));
+        JPanel listPanel = ToolbarDecorator.createDecorator(list)
+                .setAddAction(button -> {
+                    VirtualFile[] dirs = FileChooser.chooseFiles(FileChooserDescriptorFactory.createMultipleFoldersDescriptor(), myProject, null);
+                    for (VirtualFile dir : dirs) {
+                        if (!myListModel.contains(dir)) {
+                            myListModel.add(dir);
+                        }
+                    }
+                })
+                .createPanel();
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.add(myModuleComboBox, BorderLayout.NORTH);
+        panel.add(listPanel, BorderLayout.CENTER);
+        reset();
+        return panel;
+    }
+
+    private void selectModule(@Nullable Module module) {
+        saveCurrentModule();
+        myCurrentModule = module;
+        myListModel.replaceAll(module != null ? myAddonsPaths.getOrDefault(module, new ArrayList<>()) : new ArrayList<>());
+    }
+
+    private void saveCurrentModule() {
+        if (myCurrentModule != null) {
+            myAddonsPaths.put(myCurrentModule, new ArrayList<>(myListModel.getItems()));
+        }
+    }
+
+    @Override
+    public boolean isModified() {
+        saveCurrentModule();
+        for (Map.Entry<Module, List<VirtualFile>> entry : myAddonsPaths.entrySet()) {
+            if (!entry.getValue().equals(OdooAddonsPathSettings.getInstance(entry.getKey()).getAddonsPaths())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void apply() {
+        saveCurrentModule();
+        myAddonsPaths.forEach((module, addonsPaths) -> {
+            OdooAddonsPathSettings settings = OdooAddonsPathSettings.getInstance(module);
+            if (!addonsPaths.equals(settings.getAddonsPaths())) {
+                settings.setAddonsPaths(addonsPaths);
+            }
+        });
+    }
+
+    @Override
+    public void reset() {
+        myAddonsPaths.clear();
+        for (Module module : ModuleManager.getInstance(myProject).getModules()) {
+            myAddonsPaths.put(module, new ArrayList<>(OdooAddonsPathSettings.getInstance(module).getAddonsPaths()));
+        }
+        myCurrentModule = null;
+        if (myModuleComboBox != null) {
+            selectModule((Module) myModuleComboBox.getSelectedItem());
+        }
+    }
+
+    @Override
+    public void disposeUIResources() {
+        myModuleComboBox = null;
+        myCurrentModule = null;
+    }
+}
@@ -0,0 +1,135 @@
+package dev.ngocta.pycharm.odoo.python.module;
+
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.components.PersistentStateComponent;
+import com.intellij.openapi.components.State;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.module.ModuleServiceManager;
+import com.intellij.openapi.module.ModuleUtil;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.roots.ex.ProjectRootManagerEx;
+import com.intellij.openapi.util.EmptyRunnable;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import dev.ngocta.pycharm.odoo.OdooUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+@State(name = "OdooAddonsPathSettings")
+public class OdooAddonsPathSettings implements PersistentStateComponent<OdooAddonsPathSettings.State> {
+    private static final SimpleModificationTracker MODIFICATION_TRACKER = new SimpleModificationTracker();
+    private final Module myModule;
+    private State myState = new State();
+    private volatile List<VirtualFile> myAddonsPaths;
+    private volatile long myResolvedStamp;
+
+    public OdooAddonsPathSettings(@NotNull Module module) {
+        myModule = module;
+    }
+
+    @NotNull
+    public static OdooAddonsPathSettings getInstance(@NotNull Module module) {
+        return ModuleServiceManager.getService(module, OdooAddonsPathSettings.class);
+    }
+
+    @NotNull
+    @Override
+    public State getState() {
+        return myState;
+    }
+
+    @Override
+    public void loadState(@NotNull State state) {
+        myState = state;
+        myAddonsPaths = null;
+        MODIFICATION_TRACKER.incModificationCount();
+    }
+
+    @NotNull
+    public List<VirtualFile> getAddonsPaths() {
+        List<VirtualFile> addonsPaths = myAddonsPaths;
+        long stamp = VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS.getModificationCount();
+        if (addonsPaths != null && addonsPaths.stream().allMatch(VirtualFile::isValid)
+                && (addonsPaths.size() == myState.addonsPaths.size() || myResolvedStamp == stamp)) {
+            return addonsPaths;
+        }
+        addonsPaths = new ArrayList<>();
+        VirtualFileManager virtualFileManager = VirtualFileManager.getInstance();
+        for (String url : myState.addonsPaths) {
+            VirtualFile dir = virtualFileManager.findFileByUrl(url);
+            if (dir != null && dir.isDirectory() && !addonsPaths.contains(dir)) {
+                addonsPaths.add(dir);
+            }
+        }
+        addonsPaths = Collections.unmodifiableList(addonsPaths);
+        myResolvedStamp = stamp;
+        myAddonsPaths = addonsPaths;
+        return addonsPaths;
+    }
+
+    public void setAddonsPaths(@NotNull List<VirtualFile> addonsPaths) {
+        State state = new State();
+        for (VirtualFile dir : addonsPaths) {
+            state.addonsPaths.add(dir.getUrl());
+        }
+        loadState(state);
+        WriteAction.run(() -> ProjectRootManagerEx.getInstanceEx(myModule.getProject())
+                .makeRootsChange(EmptyRunnable.getInstance(), false, true));
+    }
+
+    @NotNull
+    public static List<VirtualFile> getAddonsPaths(@NotNull PsiElement anchor) {
+        Module module = ModuleUtil.findModuleForPsiElement(anchor);
+        if (module != null) {
+            List<VirtualFile> addonsPaths = getInstance(module).getAddonsPaths();
+            if (!addonsPaths.isEmpty()) {
+                return addonsPaths;
+            }
+        }
+        VirtualFile file = getVirtualFile(anchor);
+        VirtualFile moduleDir = OdooModuleUtils.getContainingOdooModuleDirectory(file);
+        VirtualFile addonsPath = moduleDir != null ? moduleDir.getParent() : null;
+        if (addonsPath != null) {
+            return getAddonsPathsByRoot(anchor.getProject()).getOrDefault(addonsPath, Collections.emptyList());
+        }
+        return Collections.emptyList();
+    }
+
+    @NotNull
+    private static Map<VirtualFile, List<VirtualFile>> getAddonsPathsByRoot(@NotNull Project project) {
+        return CachedValuesManager.getManager(project).getCachedValue(project, () -> {
+            Map<VirtualFile, List<VirtualFile>> result = new HashMap<>();
+            for (Module module : ModuleManager.getInstance(project).getModules()) {
+                List<VirtualFile> addonsPaths = getInstance(module).getAddonsPaths();
+                for (VirtualFile addonsPath : addonsPaths) {
+                    result.putIfAbsent(addonsPath, addonsPaths);
+                }
+            }
+            return CachedValueProvider.Result.create(result, MODIFICATION_TRACKER, ProjectRootManager.getInstance(project),
+                    VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS);
+        });
+    }
+
+    @Nullable
+    private static VirtualFile getVirtualFile(@NotNull PsiElement anchor) {
+        if (anchor instanceof PsiDirectory) {
+            return ((PsiDirectory) anchor).getVirtualFile();
+        }
+        PsiFile file = OdooUtils.getOriginalContextFile(anchor);
+        return file != null ? file.getVirtualFile() : null;
+    }
+
+    public static class State {
+        public List<String> addonsPaths = new ArrayList<>();
+    }
+}
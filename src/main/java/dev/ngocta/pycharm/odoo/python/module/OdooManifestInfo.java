@@ -1,27 +1,45 @@
 package dev.ngocta.pycharm.odoo.python.module;
 
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.util.CachedValueProvider;
-import com.intellij.psi.util.CachedValuesManager;
-import com.intellij.psi.util.PsiTreeUtil;
-import com.jetbrains.python.psi.*;
 import dev.ngocta.pycharm.odoo.OdooNames;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
+import java.util.*;
 
 public class OdooManifestInfo {
+    public static final OdooManifestInfo EMPTY = new OdooManifestInfo(
+            null, null, null,
+            Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyMap(),
+            true, false);
+
     private final String myName;
     private final String mySummary;
-    private final String[] myDepends;
+    private final String myVersion;
+    private final List<String> myDepends;
+    private final List<String> myData;
+    private final List<String> myDemo;
+    private final Map<String, List<String>> myAssets;
+    private final boolean myInstallable;
+    private final boolean myAutoInstall;
 
-    private OdooManifestInfo(@Nullable String name,
-                             @Nullable String summary,
-                             @Nullable String[] depends) {
+    OdooManifestInfo(@Nullable String name,
+                     @Nullable String summary,
+                     @Nullable String version,
+                     @NotNull List<String> depends,
+                     @NotNull List<String> data,
+                     @NotNull List<String> demo,
+                     @NotNull Map<String, List<String>> assets,
+                     boolean installable,
+                     boolean autoInstall) {
         myName = name;
         mySummary = summary;
+        myVersion = version;
         myDepends = depends;
+        myData = data;
+        myDemo = demo;
+        myAssets = assets;
+        myInstallable = installable;
+        myAutoInstall = autoInstall;
     }
 
     @Nullable
@@ -35,46 +53,112 @@ public class OdooManifestInfo {
     }
 
     @Nullable
-    public String[] getDepends() {
+    public String getVersion() {
+        return myVersion;
+    }
+
+    @NotNull
+    public List<String> getDepends() {
         return myDepends;
     }
 
-    @Nullable
-    public static OdooManifestInfo parseManifest(@NotNull PsiFile manifest) {
-        return CachedValuesManager.getCachedValue(manifest, () -> {
-            OdooManifestInfo info = doParseManifest(manifest);
-            return CachedValueProvider.Result.create(info, manifest);
-        });
+    @NotNull
+    public List<String> getData() {
+        return myData;
+    }
+
+    @NotNull
+    public List<String> getDemo() {
+        return myDemo;
+    }
+
+    @NotNull
+    public Map<String, List<String>> getAssets() {
+        return myAssets;
+    }
+
+    public boolean isInstallable() {
+        return myInstallable;
+    }
+
+    public boolean isAutoInstall() {
+        return myAutoInstall;
     }
 
     @Nullable
-    private static OdooManifestInfo doParseManifest(@NotNull PsiFile manifest) {
-        PyDictLiteralExpression dictExpression = PsiTreeUtil.findChildOfType(manifest, PyDictLiteralExpression.class);
-        if (dictExpression == null) {
+    public static OdooManifestInfo parseManifest(@NotNull CharSequence text) {
+        Map<String, Object> dict = OdooManifestParser.parse(text);
+        if (dict == null) {
             return null;
         }
-
-        String name = null;
-        String summary = null;
-        List<String> depends = null;
-        for (PyKeyValueExpression kvExpression : dictExpression.getElements()) {
-            PyExpression key = kvExpression.getKey();
-            if (key instanceof PyStringLiteralExpression) {
-                String keyName = ((PyStringLiteralExpression) key).getStringValue();
-                PyExpression value = kvExpression.getValue();
-                if ("name".equals(keyName) && value instanceof PyStringLiteralExpression) {
-                    name = ((PyStringLiteralExpression) value).getStringValue();
-                } else if ("summary".equals(keyName) && (value instanceof PyStringLiteralExpression)) {
-                    summary = ((PyStringLiteralExpression) value).getStringValue().trim();
-                } else if (OdooNames.MANIFEST_DEPENDS.equals(keyName) && value instanceof PySequenceExpression) {
-                    depends = PyUtil.strListValue(value);
+        String summary = getString(dict, "summary");
+        Map<String, List<String>> assets = new LinkedHashMap<>();
+        Object assetsValue = dict.get(OdooNames.MANIFEST_ASSETS);
+        if (assetsValue instanceof Map) {
+            ((Map<?, ?>) assetsValue).forEach((bundle, files) -> {
+                if (bundle instanceof String) {
+                    assets.put((String) bundle, getStringList(files));
                 }
+            });
+        }
+        return new OdooManifestInfo(
+                getString(dict, "name"),
+                summary != null ? summary.trim() : null,
+                getString(dict, "version"),
+                getStringList(dict.get(OdooNames.MANIFEST_DEPENDS)),
+                getStringList(dict.get(OdooNames.MANIFEST_DATA)),
+                getStringList(dict.get(OdooNames.MANIFEST_DEMO)),
+                assets,
+                !Boolean.FALSE.equals(dict.get(OdooNames.MANIFEST_INSTALLABLE)),
+                isTrue(dict.get(OdooNames.MANIFEST_AUTO_INSTALL)));
+    }
+
+    @Nullable
+    private static String getString(@NotNull Map<String, Object> dict,
+                                    @NotNull String key) {
+        Object value = dict.get(key);
+        return value instanceof String ? (String) value : null;
+    }
+
+    @NotNull
+    private static List<String> getStringList(@Nullable Object value) {
+        if (!(value instanceof List)) {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>();
+        for (Object item : (List<?>) value) {
+            if (item instanceof String) {
+                result.add((String) item);
             }
         }
+        return result;
+    }
 
-        return new OdooManifestInfo(
-                name,
-                summary,
-                depends != null ? depends.toArray(new String[0]) : null);
+    private static boolean isTrue(@Nullable Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return value instanceof List && !((List<?>) value).isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OdooManifestInfo that = (OdooManifestInfo) o;
+        return myInstallable == that.myInstallable &&
+                myAutoInstall == that.myAutoInstall &&
+                Objects.equals(myName, that.myName) &&
+                Objects.equals(mySummary, that.mySummary) &&
+                Objects.equals(myVersion, that.myVersion) &&
+                myDepends.equals(that.myDepends) &&
+                myData.equals(that.myData) &&
+                myDemo.equals(that.myDemo) &&
+                myAssets.equals(that.myAssets);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(myName, mySummary, myVersion, myDepends, myData, myDemo, myAssets, myInstallable, myAutoInstall);
     }
 }
@@ -0,0 +1,73 @@
+package dev.ngocta.pycharm.odoo.python.module;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import dev.ngocta.pycharm.odoo.OdooUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+
+class OdooManifestInfoExternalizer implements DataExternalizer<OdooManifestInfo> {
+    public static final OdooManifestInfoExternalizer INSTANCE = new OdooManifestInfoExternalizer();
+
+    @Override
+    public void save(@NotNull DataOutput out,
+                     OdooManifestInfo value) throws IOException {
+        OdooUtils.writeNullableString(value.getName(), out);
+        OdooUtils.writeNullableString(value.getSummary(), out);
+        OdooUtils.writeNullableString(value.getVersion(), out);
+        writeStringList(value.getDepends(), out);
+        writeStringList(value.getData(), out);
+        writeStringList(value.getDemo(), out);
+        DataInputOutputUtil.writeINT(out, value.getAssets().size());
+        for (Map.Entry<String, List<String>> entry : value.getAssets().entrySet()) {
+            out.writeUTF(entry.getKey());
+            writeStringList(entry.getValue(), out);
+        }
+        out.writeBoolean(value.isInstallable());
+        out.writeBoolean(value.isAutoInstall());
+    }
+
+    @Override
+    public OdooManifestInfo read(@NotNull DataInput in) throws IOException {
+        String name = OdooUtils.readNullableString(in);
+        String summary = OdooUtils.readNullableString(in);
+        String version = OdooUtils.readNullableString(in);
+        List<String> depends = readStringList(in);
+        List<String> data = readStringList(in);
+        List<String> demo = readStringList(in);
+        int assetsSize = DataInputOutputUtil.readINT(in);
+        Map<String, List<String>> assets = new LinkedHashMap<>();
+        for (int i = 0; i < assetsSize; i++) {
+            String bundle = in.readUTF();
+            assets.put(bundle, readStringList(in));
+        }
+        boolean installable = in.readBoolean();
+        boolean autoInstall = in.readBoolean();
+        return new OdooManifestInfo(name, summary, version, depends, data, demo, assets, installable, autoInstall);
+    }
+
+    private static void writeStringList(@NotNull List<String> value,
+                                        @NotNull DataOutput out) throws IOException {
+        DataInputOutputUtil.writeINT(out, value.size());
+        for (String s : value) {
+            out.writeUTF(s);
+        }
+    }
+
+    @NotNull
+    private static List<String> readStringList(@NotNull DataInput in) throws IOException {
+        int size = DataInputOutputUtil.readINT(in);
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(in.readUTF());
+        }
+        return result;
+    }
+}
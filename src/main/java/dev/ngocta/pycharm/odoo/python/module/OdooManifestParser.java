@@ -0,0 +1,298 @@
+package dev.ngocta.pycharm.odoo.python.module;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class OdooManifestParser {
+    private static final Object UNKNOWN = new Object();
+
+    private final CharSequence myText;
+    private int myPos;
+    private boolean myTrailingComma;
+
+    private OdooManifestParser(@NotNull CharSequence text) {
+        myText = text;
+    }
+
+    @Nullable
+    static Map<String, Object> parse(@NotNull CharSequence text) {
+        OdooManifestParser parser = new OdooManifestParser(text);
+        parser.skipWhitespaces();
+        while (parser.myPos < text.length() && text.charAt(parser.myPos) != '{') {
+            parser.skipLine();
+            parser.skipWhitespaces();
+        }
+        if (parser.myPos >= text.length()) {
+            return null;
+        }
+        Object value = parser.parseValue();
+        if (value instanceof Map) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            ((Map<?, ?>) value).forEach((k, v) -> {
+                if (k instanceof String) {
+                    result.put((String) k, v);
+                }
+            });
+            return result;
+        }
+        return null;
+    }
+
+    private boolean atEnd() {
+        return myPos >= myText.length();
+    }
+
+    private char current() {
+        return myText.charAt(myPos);
+    }
+
+    private void skipLine() {
+        while (!atEnd() && current() != '\n') {
+            myPos++;
+        }
+    }
+
+    private void skipWhitespaces() {
+        while (!atEnd()) {
+            char c = current();
+            if (c == '#') {
+                skipLine();
+            } else if (Character.isWhitespace(c) || c == '\\') {
+                myPos++;
+            } else {
+                break;
+            }
+        }
+    }
+
+    @Nullable
+    private Object parseValue() {
+        skipWhitespaces();
+        if (atEnd()) {
+            return UNKNOWN;
+        }
+        char c = current();
+        Object value;
+        if (c == '{') {
+            value = parseDict();
+        } else if (c == '[') {
+            value = parseSequence(']');
+        } else if (c == '(') {
+            value = parseParenthesized();
+        } else if (isStringStart()) {
+            StringBuilder builder = new StringBuilder();
+            while (isStringStart()) {
+                builder.append(parseString());
+                skipWhitespaces();
+            }
+            value = builder.toString();
+        } else if (Character.isJavaIdentifierStart(c) || Character.isDigit(c) || c == '-') {
+            String word = parseWord();
+            if ("True".equals(word)) {
+                value = Boolean.TRUE;
+            } else if ("False".equals(word)) {
+                value = Boolean.FALSE;
+            } else if ("None".equals(word)) {
+                value = null;
+            } else {
+                value = UNKNOWN;
+            }
+        } else {
+            value = UNKNOWN;
+        }
+        skipWhitespaces();
+        if (!atEnd() && current() != ',' && current() != ':' && !isClosingBracket(current())) {
+            skipExpression();
+            return UNKNOWN;
+        }
+        return value;
+    }
+
+    @NotNull
+    private Map<Object, Object> parseDict() {
+        Map<Object, Object> result = new LinkedHashMap<>();
+        myPos++;
+        while (true) {
+            skipWhitespaces();
+            if (atEnd()) {
+                return result;
+            }
+            if (current() == '}') {
+                myPos++;
+                return result;
+            }
+            Object key = parseValue();
+            if (!atEnd() && current() == ':') {
+                myPos++;
+                Object value = parseValue();
+                if (key != UNKNOWN && value != UNKNOWN) {
+                    result.put(key, value);
+                }
+            }
+            if (!skipSeparator('}')) {
+                return result;
+            }
+        }
+    }
+
+    @NotNull
+    private List<Object> parseSequence(char closingBracket) {
+        List<Object> result = new ArrayList<>();
+        boolean trailingComma = false;
+        myPos++;
+        while (true) {
+            skipWhitespaces();
+            if (atEnd()) {
+                break;
+            }
+            if (current() == closingBracket) {
+                myPos++;
+                break;
+            }
+            Object value = parseValue();
+            if (value != UNKNOWN) {
+                result.add(value);
+            }
+            if (!skipSeparator(closingBracket)) {
+                break;
+            }
+            trailingComma = myText.charAt(myPos - 1) == ',';
+        }
+        myTrailingComma = trailingComma;
+        return result;
+    }
+
+    @Nullable
+    private Object parseParenthesized() {
+        List<Object> items = parseSequence(')');
+        return items.size() == 1 && !myTrailingComma ? items.get(0) : items;
+    }
+
+    private boolean skipSeparator(char closingBracket) {
+        skipWhitespaces();
+        if (atEnd()) {
+            return false;
+        }
+        char c = current();
+        if (c == ',') {
+            myPos++;
+            return true;
+        }
+        if (c == closingBracket) {
+            return true;
+        }
+        int start = myPos;
+        skipExpression();
+        if (myPos == start || (!atEnd() && current() == ',')) {
+            myPos++;
+        }
+        return !atEnd();
+    }
+
+    private void skipExpression() {
+        int depth = 0;
+        while (!atEnd()) {
+            char c = current();
+            if (isStringStart()) {
+                parseString();
+                continue;
+            }
+            if (c == '#') {
+                skipLine();
+                continue;
+            }
+            if (c == '{' || c == '[' || c == '(') {
+                depth++;
+            } else if (isClosingBracket(c)) {
+                if (depth == 0) {
+                    return;
+                }
+                depth--;
+            } else if ((c == ',' || c == ':') && depth == 0) {
+                return;
+            }
+            myPos++;
+        }
+    }
+
+    private static boolean isClosingBracket(char c) {
+        return c == '}' || c == ']' || c == ')';
+    }
+
+    @NotNull
+    private String parseWord() {
+        int start = myPos;
+        while (!atEnd() && (Character.isJavaIdentifierPart(current()) || current() == '.' || current() == '-')) {
+            myPos++;
+        }
+        if (start == myPos) {
+            myPos++;
+        }
+        return myText.subSequence(start, myPos).toString();
+    }
+
+    private boolean isStringStart() {
+        int pos = myPos;
+        while (pos < myText.length() && pos - myPos < 2 && "rRuUbBfF".indexOf(myText.charAt(pos)) >= 0) {
+            pos++;
+        }
+        return pos < myText.length() && (myText.charAt(pos) == '\'' || myText.charAt(pos) == '"');
+    }
+
+    @NotNull
+    private String parseString() {
+        boolean raw = false;
+        while ("rRuUbBfF".indexOf(current()) >= 0) {
+            if (current() == 'r' || current() == 'R') {
+                raw = true;
+            }
+            myPos++;
+        }
+        char quote = current();
+        boolean triple = myPos + 2 < myText.length()
+                && myText.charAt(myPos + 1) == quote
+                && myText.charAt(myPos + 2) == quote;
+        myPos += triple ? 3 : 1;
+        StringBuilder builder = new StringBuilder();
+        while (!atEnd()) {
+            char c = current();
+            if (c == quote) {
+                if (!triple) {
+                    myPos++;
+                    break;
+                }
+                if (myPos + 2 < myText.length()
+                        && myText.charAt(myPos + 1) == quote
+                        && myText.charAt(myPos + 2) == quote) {
+                    myPos += 3;
+                    break;
+                }
+            }
+            if (c == '\n' && !triple) {
+                break;
+            }
+            if (c == '\\' && myPos + 1 < myText.length()) {
+                char next = myText.charAt(myPos + 1);
+                myPos += 2;
+                if (raw) {
+                    builder.append(c).append(next);
+                } else if (next == 'n') {
+                    builder.append('\n');
+                } else if (next == 't') {
+                    builder.append('\t');
+                } else if (next != '\n') {
+                    builder.append(next);
+                }
+                continue;
+            }
+            builder.append(c);
+            myPos++;
+        }
+        return builder.toString();
+    }
+}
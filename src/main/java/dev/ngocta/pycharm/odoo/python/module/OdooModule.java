@@ -2,20 +2,17 @@ package dev.ngocta.pycharm.odoo.python.module;
 
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Pair;
-import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiDirectory;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.jetbrains.python.psi.PyUtil;
 import dev.ngocta.pycharm.odoo.OdooNames;
+import dev.ngocta.pycharm.odoo.OdooUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collections;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
 
 public class OdooModule {
     private final PsiDirectory myDirectory;
@@ -46,45 +43,18 @@ public class OdooModule {
 
     @Nullable
     public OdooManifestInfo getManifestInfo() {
-        PsiFile manifest = getManifest();
-        return manifest != null ? OdooManifestInfo.parseManifest(manifest) : null;
+        VirtualFile manifest = getDirectory().getVirtualFile().findChild(OdooNames.MANIFEST_FILE_NAME);
+        return manifest != null ? OdooModuleIndex.getManifestInfo(manifest, getProject()) : null;
     }
 
     @NotNull
     public List<OdooModule> getDepends() {
-        return PyUtil.getParameterizedCachedValue(getDirectory(), null, param -> {
-            OdooManifestInfo info = getManifestInfo();
-            if (info == null) {
-                return Collections.emptyList();
-            }
-            List<OdooModule> result = new LinkedList<>();
-            String[] depends = info.getDepends();
-            if (depends == null) {
-                return Collections.emptyList();
-            }
-            for (String depend : depends) {
-                OdooModule module = OdooModuleIndex.getOdooModuleByName(depend, getDirectory());
-                if (module != null) {
-                    result.add(module);
-                }
-            }
-            return result;
-        });
+        return OdooModuleGraph.getInstance(getProject()).getDepends(this);
     }
 
     @NotNull
     public List<OdooModule> getFlattenedDependsGraph() {
-        List<OdooModule> visitedModules = new LinkedList<>();
-        List<OdooModule> modules = new LinkedList<>();
-        modules.add(this);
-        OdooModule module;
-        while (!modules.isEmpty()) {
-            module = modules.remove(0);
-            visitedModules.remove(module);
-            visitedModules.add(module);
-            modules.addAll(module.getDepends());
-        }
-        return visitedModules;
+        return OdooModuleGraph.getInstance(getProject()).getFlattenedDependsGraph(this);
     }
 
     @NotNull
@@ -106,29 +76,24 @@ public class OdooModule {
     public GlobalSearchScope getOdooModuleScope(boolean includeDependencies,
                                                 boolean includeExtensions) {
         return PyUtil.getParameterizedCachedValue(getDirectory(), Pair.create(includeDependencies, includeExtensions), param -> {
-            List<OdooModule> modules = new LinkedList<>();
+            Set<OdooModule> modules = new LinkedHashSet<>();
             modules.add(this);
             if (includeDependencies) {
                 modules.addAll(getFlattenedDependsGraph());
-                for (OdooModule module : OdooModuleUtils.getSystemWideOdooModules(getDirectory())) {
-                    if (!modules.contains(module)) {
-                        modules.add(module);
-                    }
-                }
+                modules.addAll(OdooModuleUtils.getSystemWideOdooModules(getDirectory()));
             }
             if (includeExtensions) {
-                List<OdooModule> availableModules = OdooModuleIndex.getAvailableOdooModules(getDirectory());
-                for (OdooModule module : availableModules) {
-                    if (module.isDependOn(this)) {
+                List<VirtualFile> addonsPaths = OdooAddonsPathSettings.getAddonsPaths(getDirectory());
+                GlobalSearchScope scope = addonsPaths.isEmpty()
+                        ? OdooUtils.getProjectModuleWithDependenciesScope(getDirectory())
+                        : new OdooModuleScope(getProject(), addonsPaths);
+                for (OdooModule module : OdooModuleGraph.getInstance(getProject()).getExtensions(this)) {
+                    if (scope.contains(module.getDirectory().getVirtualFile())) {
                         modules.add(module);
                     }
                 }
             }
-            List<VirtualFile> files = new LinkedList<>();
-            for (OdooModule module : modules) {
-                VfsUtilCore.processFilesRecursively(module.getDirectory().getVirtualFile(), files::add);
-            }
-            return GlobalSearchScope.filesWithLibrariesScope(getProject(), files);
+            return OdooModuleScope.create(getProject(), modules);
         });
     }
 
@@ -136,7 +101,7 @@ public class OdooModule {
         if (module == null) {
             return false;
         }
-        return !this.equals(module) && (getDepends().contains(module) || getFlattenedDependsGraph().contains(module));
+        return OdooModuleGraph.getInstance(getProject()).isDependOn(this, module);
     }
 
     @Override
@@ -0,0 +1,193 @@
+package dev.ngocta.pycharm.odoo.python.module;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectManager;
+import com.intellij.openapi.project.ProjectManagerListener;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.VirtualFileVisitor;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.NewVirtualFile;
+import com.intellij.openapi.vfs.newvfs.events.*;
+import com.intellij.util.ObjectUtils;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.messages.MessageBusConnection;
+import com.jetbrains.python.PyNames;
+import dev.ngocta.pycharm.odoo.OdooNames;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class OdooModuleDirectoryCache {
+    private final Map<VirtualFile, Object> myCache = new ConcurrentHashMap<>();
+
+    public OdooModuleDirectoryCache() {
+        MessageBusConnection connection = ApplicationManager.getApplication().getMessageBus().connect();
+        connection.subscribe(ProjectManager.TOPIC, new ProjectManagerListener() {
+            @Override
+            public void projectClosed(@NotNull Project project) {
+                myCache.clear();
+            }
+        });
+        connection.subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            @Override
+            public void after(@NotNull List<? extends VFileEvent> events) {
+                List<VirtualFile> dirs = new ArrayList<>();
+                List<VirtualFile> reindexDirs = new ArrayList<>();
+                for (VFileEvent event : events) {
+                    collectChangedDirectories(event, dirs, reindexDirs);
+                }
+                if (!dirs.isEmpty()) {
+                    invalidate(dirs, reindexDirs);
+                }
+            }
+        });
+    }
+
+    @NotNull
+    public static OdooModuleDirectoryCache getInstance() {
+        return ServiceManager.getService(OdooModuleDirectoryCache.class);
+    }
+
+    @Nullable
+    public VirtualFile getContainingOdooModuleDirectory(@Nullable VirtualFile file) {
+        if (file != null && !file.isDirectory()) {
+            file = file.getParent();
+        }
+        List<VirtualFile> visited = new ArrayList<>();
+        VirtualFile moduleDirectory = null;
+        while (file != null) {
+            Object cached = myCache.get(file);
+            if (cached != null) {
+                if (cached != ObjectUtils.NULL) {
+                    moduleDirectory = (VirtualFile) cached;
+                }
+                break;
+            }
+            visited.add(file);
+            if (OdooModuleUtils.isOdooModuleDirectory(file)) {
+                moduleDirectory = file;
+                break;
+            }
+            file = file.getParent();
+        }
+        for (VirtualFile dir : visited) {
+            if (moduleDirectory != null) {
+                myCache.put(dir, moduleDirectory);
+            } else if (isInContent(dir)) {
+                myCache.put(dir, ObjectUtils.NULL);
+            }
+        }
+        return moduleDirectory;
+    }
+
+    private static boolean isInContent(@NotNull VirtualFile dir) {
+        for (Project project : ProjectManager.getInstance().getOpenProjects()) {
+            if (!project.isDisposed() && ProjectFileIndex.getInstance(project).isInContent(dir)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void collectChangedDirectories(@NotNull VFileEvent event,
+                                                  @NotNull List<VirtualFile> dirs,
+                                                  @NotNull List<VirtualFile> reindexDirs) {
+        if (event instanceof VFileCreateEvent) {
+            VFileCreateEvent createEvent = (VFileCreateEvent) event;
+            addMarkerDirectory(createEvent.getParent(), createEvent.getChildName(), dirs, reindexDirs);
+        } else if (event instanceof VFileCopyEvent) {
+            VFileCopyEvent copyEvent = (VFileCopyEvent) event;
+            addMarkerDirectory(copyEvent.getNewParent(), copyEvent.getNewChildName(), dirs, reindexDirs);
+        } else if (event instanceof VFileDeleteEvent) {
+            VirtualFile file = event.getFile();
+            if (file.isDirectory()) {
+                dirs.add(file);
+            } else {
+                addMarkerDirectory(file.getParent(), file.getName(), dirs, reindexDirs);
+            }
+        } else if (event instanceof VFileMoveEvent) {
+            VFileMoveEvent moveEvent = (VFileMoveEvent) event;
+            VirtualFile file = moveEvent.getFile();
+            if (file.isDirectory()) {
+                dirs.add(file);
+            } else {
+                addMarkerDirectory(moveEvent.getOldParent(), file.getName(), dirs, reindexDirs);
+                addMarkerDirectory(moveEvent.getNewParent(), file.getName(), dirs, reindexDirs);
+            }
+        } else if (event instanceof VFilePropertyChangeEvent) {
+            VFilePropertyChangeEvent propertyChangeEvent = (VFilePropertyChangeEvent) event;
+            VirtualFile file = propertyChangeEvent.getFile();
+            if (propertyChangeEvent.isRename() && !file.isDirectory()) {
+                addMarkerDirectory(file.getParent(), (String) propertyChangeEvent.getOldValue(), dirs, reindexDirs);
+                addMarkerDirectory(file.getParent(), (String) propertyChangeEvent.getNewValue(), dirs, reindexDirs);
+            }
+        }
+    }
+
+    private static void addMarkerDirectory(@Nullable VirtualFile dir,
+                                           @Nullable String name,
+                                           @NotNull List<VirtualFile> dirs,
+                                           @NotNull List<VirtualFile> reindexDirs) {
+        if (dir == null) {
+            return;
+        }
+        if (OdooNames.MANIFEST_FILE_NAME.equals(name)) {
+            dirs.add(dir);
+            reindexDirs.add(dir);
+        } else if (PyNames.INIT_DOT_PY.equals(name)) {
+            dirs.add(dir);
+            if (dir.isValid() && dir.findChild(OdooNames.MANIFEST_FILE_NAME) != null) {
+                reindexDirs.add(dir);
+            }
+        }
+    }
+
+    private void invalidateSubtree(@NotNull VirtualFile dir) {
+        if (myCache.remove(dir) == null && isInContent(dir)) {
+            return;
+        }
+        if (dir instanceof NewVirtualFile) {
+            for (VirtualFile child : ((NewVirtualFile) dir).getCachedChildren()) {
+                if (child.isDirectory()) {
+                    invalidateSubtree(child);
+                }
+            }
+        }
+    }
+
+    private void invalidate(@NotNull List<VirtualFile> dirs,
+                            @NotNull List<VirtualFile> reindexDirs) {
+        for (VirtualFile dir : dirs) {
+            invalidateSubtree(dir);
+        }
+        for (VirtualFile dir : reindexDirs) {
+            if (dir.isValid()) {
+                requestReindex(dir);
+            }
+        }
+    }
+
+    private static void requestReindex(@NotNull VirtualFile dir) {
+        FileBasedIndex index = FileBasedIndex.getInstance();
+        index.requestReindex(dir);
+        VfsUtilCore.visitChildrenRecursively(dir, new VirtualFileVisitor<Void>() {
+            @Override
+            public boolean visitFile(@NotNull VirtualFile file) {
+                if (file.isDirectory()) {
+                    return file.equals(dir) || isInContent(file);
+                }
+                index.requestReindex(file);
+                return true;
+            }
+        });
+    }
+}
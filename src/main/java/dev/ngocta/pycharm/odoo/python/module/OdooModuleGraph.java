@@ -0,0 +1,654 @@
+package dev.ngocta.pycharm.odoo.python.module;
+
+import com.intellij.ProjectTopics;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootEvent;
+import com.intellij.openapi.roots.ModuleRootListener;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileContentChangeEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.util.ArrayUtil;
+import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.messages.MessageBusConnection;
+import com.jetbrains.python.PyNames;
+import dev.ngocta.pycharm.odoo.OdooNames;
+import dev.ngocta.pycharm.odoo.OdooUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class OdooModuleGraph implements ModificationTracker {
+    private final Project myProject;
+    private final SimpleModificationTracker myModificationTracker = new SimpleModificationTracker();
+    private final Set<VirtualFile> myDirtyModules = ConcurrentHashMap.newKeySet();
+    private final AtomicLong myStructureStamp = new AtomicLong();
+    private final AtomicReference<Graph> myGraph = new AtomicReference<>();
+
+    public OdooModuleGraph(@NotNull Project project) {
+        myProject = project;
+        MessageBusConnection connection = project.getMessageBus().connect();
+        connection.subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            @Override
+            public void after(@NotNull List<? extends VFileEvent> events) {
+                for (VFileEvent event : events) {
+                    processFileEvent(event);
+                }
+            }
+        });
+        connection.subscribe(ProjectTopics.PROJECT_ROOTS, new ModuleRootListener() {
+            @Override
+            public void rootsChanged(@NotNull ModuleRootEvent event) {
+                invalidate();
+            }
+        });
+    }
+
+    @NotNull
+    public static OdooModuleGraph getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, OdooModuleGraph.class);
+    }
+
+    @Override
+    public long getModificationCount() {
+        return myModificationTracker.getModificationCount();
+    }
+
+    public long getStructureModificationCount() {
+        return myStructureStamp.get();
+    }
+
+    public void invalidate() {
+        myStructureStamp.incrementAndGet();
+        myModificationTracker.incModificationCount();
+    }
+
+    private void processFileEvent(@NotNull VFileEvent event) {
+        VirtualFile file = event.getFile();
+        if (file == null) {
+            return;
+        }
+        String name = file.getName();
+        if (event instanceof VFileContentChangeEvent) {
+            if (OdooNames.MANIFEST_FILE_NAME.equals(name)) {
+                VirtualFile dir = file.getParent();
+                if (dir != null) {
+                    myDirtyModules.add(dir);
+                    myModificationTracker.incModificationCount();
+                }
+            }
+            return;
+        }
+        if (event instanceof VFilePropertyChangeEvent && !((VFilePropertyChangeEvent) event).isRename()) {
+            return;
+        }
+        if (OdooNames.MANIFEST_FILE_NAME.equals(name)) {
+            invalidate();
+        } else if (PyNames.INIT_DOT_PY.equals(name)) {
+            VirtualFile dir = file.getParent();
+            if (dir != null && (isKnownModule(dir) || dir.findChild(OdooNames.MANIFEST_FILE_NAME) != null)) {
+                invalidate();
+            }
+        } else if (file.isDirectory() && isUnderAddonsPath(event, file)) {
+            invalidate();
+        }
+    }
+
+    private boolean isKnownModule(@NotNull VirtualFile dir) {
+        Graph graph = myGraph.get();
+        return graph == null || graph.myIds.containsKey(dir);
+    }
+
+    private boolean isUnderAddonsPath(@NotNull VFileEvent event,
+                                      @NotNull VirtualFile dir) {
+        Graph graph = myGraph.get();
+        if (graph == null || OdooModuleUtils.isOdooModuleDirectory(dir)) {
+            return true;
+        }
+        List<VirtualFile> parents = new ArrayList<>();
+        parents.add(dir.getParent());
+        if (event instanceof VFileMoveEvent) {
+            parents.add(((VFileMoveEvent) event).getOldParent());
+        }
+        for (VirtualFile parent : parents) {
+            if (parent != null && graph.myPartitions.containsKey(parent)) {
+                return true;
+            }
+        }
+        for (VirtualFile addonsPath : graph.myPartitions.keySet()) {
+            if (VfsUtilCore.isAncestor(dir, addonsPath, false)) {
+                return true;
+            }
+        }
+        return graph.myIds.containsKey(dir);
+    }
+
+    @NotNull
+    private Graph getGraph() {
+        Graph graph = myGraph.get();
+        long stamp = myStructureStamp.get();
+        if (graph == null || graph.myStamp != stamp) {
+            List<VirtualFile> dirtyModules = new ArrayList<>(myDirtyModules);
+            Graph newGraph = buildGraph(stamp);
+            if (myGraph.compareAndSet(graph, newGraph)) {
+                myDirtyModules.removeAll(dirtyModules);
+            }
+            graph = newGraph;
+        }
+        if (!myDirtyModules.isEmpty()) {
+            List<VirtualFile> dirtyModules = new ArrayList<>(myDirtyModules);
+            Graph newGraph = updateGraph(graph, dirtyModules);
+            if (myGraph.compareAndSet(graph, newGraph)) {
+                myDirtyModules.removeAll(dirtyModules);
+            }
+            graph = newGraph;
+        }
+        return graph;
+    }
+
+    @NotNull
+    private Graph buildGraph(long stamp) {
+        FileBasedIndex index = FileBasedIndex.getInstance();
+        GlobalSearchScope scope = GlobalSearchScope.allScope(myProject);
+        PsiManager psiManager = PsiManager.getInstance(myProject);
+        Map<VirtualFile, OdooModule> directories = new LinkedHashMap<>();
+        for (String name : index.getAllKeys(OdooModuleIndex.NAME, myProject)) {
+            for (VirtualFile file : index.getContainingFiles(OdooModuleIndex.NAME, name, scope)) {
+                VirtualFile dir = file.getParent();
+                if (OdooModuleUtils.isOdooModuleDirectory(dir) && !directories.containsKey(dir)) {
+                    PsiDirectory psiDir = psiManager.findDirectory(dir);
+                    if (psiDir != null) {
+                        directories.put(dir, new OdooModule(psiDir));
+                    }
+                }
+            }
+        }
+        int size = directories.size();
+        VirtualFile[] dirs = directories.keySet().toArray(VirtualFile.EMPTY_ARRAY);
+        OdooModule[] modules = directories.values().toArray(new OdooModule[0]);
+        Map<VirtualFile, Integer> ids = new HashMap<>();
+        Map<String, int[]> names = new HashMap<>();
+        Map<VirtualFile, Map<String, Integer>> partitions = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            ids.put(dirs[i], i);
+            names.merge(dirs[i].getName(), new int[]{i}, ArrayUtil::mergeArrays);
+            VirtualFile addonsPath = dirs[i].getParent();
+            if (addonsPath != null) {
+                partitions.computeIfAbsent(addonsPath, k -> new HashMap<>()).put(dirs[i].getName(), i);
+            }
+        }
+        int[][] depends = new int[size][];
+        VirtualFile[][] dataFiles = new VirtualFile[size][];
+        for (int i = 0; i < size; i++) {
+            OdooManifestInfo info = modules[i].getManifestInfo();
+            depends[i] = resolveDepends(modules[i], info, dirs, names, partitions);
+            dataFiles[i] = resolveDataFiles(dirs[i], info);
+        }
+        int[] order = computeTopologicalOrder(depends);
+        BitSet[] closures = new BitSet[size];
+        computeClosures(depends, order, closures, null);
+        int[] ranks = computeRanks(dirs, depends, order);
+        Map<VirtualFile, Integer> fileSequences = new HashMap<>();
+        int[] moduleSequences = computeSequences(dataFiles, ranks, fileSequences);
+        return new Graph(stamp, dirs, modules, ids, names, partitions, depends, closures, order, ranks,
+                dataFiles, fileSequences, moduleSequences);
+    }
+
+    @NotNull
+    private Graph updateGraph(@NotNull Graph graph,
+                              @NotNull Collection<VirtualFile> dirtyModules) {
+        int[][] depends = graph.myDepends.clone();
+        VirtualFile[][] dataFiles = graph.myDataFiles.clone();
+        BitSet affected = new BitSet(graph.size());
+        boolean dataFilesChanged = false;
+        for (VirtualFile dir : dirtyModules) {
+            Integer id = graph.myIds.get(dir);
+            if (id == null) {
+                continue;
+            }
+            OdooManifestInfo info = graph.myModules[id].getManifestInfo();
+            int[] newDepends = resolveDepends(graph.myModules[id], info, graph.myDirectories, graph.myNames, graph.myPartitions);
+            if (!Arrays.equals(newDepends, depends[id])) {
+                depends[id] = newDepends;
+                for (int i = 0; i < graph.size(); i++) {
+                    if (graph.myClosures[i].get(id)) {
+                        affected.set(i);
+                    }
+                }
+            }
+            VirtualFile[] newDataFiles = resolveDataFiles(dir, info);
+            if (!Arrays.equals(newDataFiles, dataFiles[id])) {
+                dataFiles[id] = newDataFiles;
+                dataFilesChanged = true;
+            }
+        }
+        if (affected.isEmpty() && !dataFilesChanged) {
+            return graph;
+        }
+        int[] order = graph.myOrder;
+        BitSet[] closures = graph.myClosures;
+        int[] ranks = graph.myRanks;
+        if (!affected.isEmpty()) {
+            order = computeTopologicalOrder(depends);
+            closures = closures.clone();
+            computeClosures(depends, order, closures, affected);
+            ranks = computeRanks(graph.myDirectories, depends, order);
+        }
+        Map<VirtualFile, Integer> fileSequences = new HashMap<>();
+        int[] moduleSequences = computeSequences(dataFiles, ranks, fileSequences);
+        return new Graph(graph.myStamp, graph.myDirectories, graph.myModules, graph.myIds, graph.myNames, graph.myPartitions,
+                depends, closures, order, ranks, dataFiles, fileSequences, moduleSequences);
+    }
+
+    @NotNull
+    private static int[] resolveDepends(@NotNull OdooModule module,
+                                        @Nullable OdooManifestInfo info,
+                                        @NotNull VirtualFile[] dirs,
+                                        @NotNull Map<String, int[]> names,
+                                        @NotNull Map<VirtualFile, Map<String, Integer>> partitions) {
+        if (info == null) {
+            return ArrayUtil.EMPTY_INT_ARRAY;
+        }
+        List<VirtualFile> addonsPaths = OdooAddonsPathSettings.getAddonsPaths(module.getDirectory());
+        GlobalSearchScope scope = addonsPaths.isEmpty() ? OdooUtils.getProjectModuleWithDependenciesScope(module.getDirectory()) : null;
+        List<Integer> result = new ArrayList<>();
+        for (String dependName : info.getDepends()) {
+            Integer dependId = null;
+            if (scope == null) {
+                dependId = findInPartitions(partitions, dependName, addonsPaths);
+            } else {
+                for (int id : names.getOrDefault(dependName, ArrayUtil.EMPTY_INT_ARRAY)) {
+                    if (scope.contains(dirs[id])) {
+                        dependId = id;
+                        break;
+                    }
+                }
+            }
+            if (dependId != null && !result.contains(dependId)) {
+                result.add(dependId);
+            }
+        }
+        return result.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @NotNull
+    private static VirtualFile[] resolveDataFiles(@NotNull VirtualFile dir,
+                                                  @Nullable OdooManifestInfo info) {
+        if (info == null) {
+            return VirtualFile.EMPTY_ARRAY;
+        }
+        Set<VirtualFile> result = new LinkedHashSet<>();
+        for (String path : ContainerUtil.concat(info.getData(), info.getDemo())) {
+            VirtualFile file = dir.findFileByRelativePath(StringUtil.trimStart(path, "./"));
+            if (file != null && !file.isDirectory()) {
+                result.add(file);
+            }
+        }
+        return result.toArray(VirtualFile.EMPTY_ARRAY);
+    }
+
+    @Nullable
+    private static Integer findInPartitions(@NotNull Map<VirtualFile, Map<String, Integer>> partitions,
+                                            @NotNull String name,
+                                            @NotNull List<VirtualFile> addonsPaths) {
+        for (VirtualFile addonsPath : addonsPaths) {
+            Map<String, Integer> partition = partitions.get(addonsPath);
+            Integer id = partition != null ? partition.get(name) : null;
+            if (id != null) {
+                return id;
+            }
+        }
+        return null;
+    }
+
+    @NotNull
+    private static int[] computeTopologicalOrder(@NotNull int[][] depends) {
+        int size = depends.length;
+        int[] remaining = new int[size];
+        List<List<Integer>> dependents = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            dependents.add(new ArrayList<>());
+        }
+        for (int i = 0; i < size; i++) {
+            remaining[i] = depends[i].length;
+            for (int depend : depends[i]) {
+                dependents.get(depend).add(i);
+            }
+        }
+        int[] order = new int[size];
+        int count = 0;
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int i = 0; i < size; i++) {
+            if (remaining[i] == 0) {
+                queue.add(i);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int id = queue.poll();
+            order[count++] = id;
+            for (int dependent : dependents.get(id)) {
+                if (--remaining[dependent] == 0) {
+                    queue.add(dependent);
+                }
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (remaining[i] > 0) {
+                order[count++] = i;
+            }
+        }
+        return order;
+    }
+
+    @NotNull
+    private static int[] computeRanks(@NotNull VirtualFile[] directories,
+                                      @NotNull int[][] depends,
+                                      @NotNull int[] order) {
+        int size = directories.length;
+        int[] depths = new int[size];
+        for (int id : order) {
+            for (int depend : depends[id]) {
+                depths[id] = Math.max(depths[id], depths[depend] + 1);
+            }
+        }
+        Integer[] sortedIds = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            sortedIds[i] = i;
+        }
+        Arrays.sort(sortedIds, Comparator
+                .<Integer>comparingInt(id -> depths[id])
+                .thenComparing(id -> directories[id].getName())
+                .thenComparing(id -> directories[id].getPath()));
+        int[] ranks = new int[size];
+        for (int i = 0; i < size; i++) {
+            ranks[sortedIds[i]] = i;
+        }
+        return ranks;
+    }
+
+    @NotNull
+    private static int[] computeSequences(@NotNull VirtualFile[][] dataFiles,
+                                          @NotNull int[] ranks,
+                                          @NotNull Map<VirtualFile, Integer> fileSequences) {
+        int size = ranks.length;
+        int[] idsByRank = new int[size];
+        for (int i = 0; i < size; i++) {
+            idsByRank[ranks[i]] = i;
+        }
+        int[] moduleSequences = new int[size];
+        int sequence = 0;
+        for (int id : idsByRank) {
+            for (VirtualFile file : dataFiles[id]) {
+                fileSequences.putIfAbsent(file, sequence++);
+            }
+            moduleSequences[id] = sequence++;
+        }
+        return moduleSequences;
+    }
+
+    private static void computeClosures(@NotNull int[][] depends,
+                                        @NotNull int[] order,
+                                        @NotNull BitSet[] closures,
+                                        @Nullable BitSet affected) {
+        BitSet completed = new BitSet(depends.length);
+        if (affected != null) {
+            completed.set(0, depends.length);
+            completed.andNot(affected);
+        }
+        for (int id : order) {
+            if (completed.get(id)) {
+                continue;
+            }
+            BitSet closure = new BitSet(depends.length);
+            closure.set(id);
+            for (int depend : depends[id]) {
+                if (completed.get(depend)) {
+                    closure.or(closures[depend]);
+                } else {
+                    closure = traverseDepends(depends, id);
+                    break;
+                }
+            }
+            closures[id] = closure;
+            completed.set(id);
+        }
+    }
+
+    @NotNull
+    private static BitSet traverseDepends(@NotNull int[][] depends,
+                                          int start) {
+        BitSet visited = new BitSet(depends.length);
+        Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(start);
+        visited.set(start);
+        while (!queue.isEmpty()) {
+            int id = queue.poll();
+            for (int depend : depends[id]) {
+                if (!visited.get(depend)) {
+                    visited.set(depend);
+                    queue.add(depend);
+                }
+            }
+        }
+        return visited;
+    }
+
+    @Nullable
+    private static OdooModule getModule(@NotNull Graph graph,
+                                        int id) {
+        return graph.myDirectories[id].isValid() ? graph.myModules[id] : null;
+    }
+
+    @Nullable
+    private static Integer getId(@NotNull Graph graph,
+                                 @NotNull OdooModule module) {
+        return graph.myIds.get(module.getDirectory().getVirtualFile());
+    }
+
+    @NotNull
+    public List<OdooModule> getModules() {
+        Graph graph = getGraph();
+        List<OdooModule> result = new ArrayList<>(graph.size());
+        for (int i = 0; i < graph.size(); i++) {
+            OdooModule module = getModule(graph, i);
+            if (module != null) {
+                result.add(module);
+            }
+        }
+        return result;
+    }
+
+    @NotNull
+    public List<OdooModule> getModulesByName(@NotNull String name) {
+        Graph graph = getGraph();
+        int[] ids = graph.myNames.get(name);
+        if (ids == null) {
+            return Collections.emptyList();
+        }
+        List<OdooModule> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            OdooModule module = getModule(graph, id);
+            if (module != null) {
+                result.add(module);
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    public OdooModule getModule(@NotNull String name,
+                                @NotNull List<VirtualFile> addonsPaths) {
+        Graph graph = getGraph();
+        Integer id = findInPartitions(graph.myPartitions, name, addonsPaths);
+        return id != null ? getModule(graph, id) : null;
+    }
+
+    @NotNull
+    public List<OdooModule> getModules(@NotNull List<VirtualFile> addonsPaths) {
+        Graph graph = getGraph();
+        Map<String, OdooModule> result = new LinkedHashMap<>();
+        for (VirtualFile addonsPath : addonsPaths) {
+            Map<String, Integer> partition = graph.myPartitions.get(addonsPath);
+            if (partition != null) {
+                partition.forEach((name, id) -> {
+                    OdooModule module = getModule(graph, id);
+                    if (module != null) {
+                        result.putIfAbsent(name, module);
+                    }
+                });
+            }
+        }
+        return new ArrayList<>(result.values());
+    }
+
+    @Nullable
+    public OdooModule getModule(@NotNull VirtualFile dir) {
+        Graph graph = getGraph();
+        Integer id = graph.myIds.get(dir);
+        return id != null ? getModule(graph, id) : null;
+    }
+
+    @NotNull
+    public List<OdooModule> getExtensions(@NotNull OdooModule module) {
+        Graph graph = getGraph();
+        Integer id = getId(graph, module);
+        if (id == null) {
+            return Collections.emptyList();
+        }
+        List<OdooModule> result = new ArrayList<>();
+        for (int i = 0; i < graph.size(); i++) {
+            if (i != id && graph.myClosures[i].get(id)) {
+                OdooModule extension = getModule(graph, i);
+                if (extension != null) {
+                    result.add(extension);
+                }
+            }
+        }
+        return result;
+    }
+
+    @NotNull
+    public List<OdooModule> getDepends(@NotNull OdooModule module) {
+        Graph graph = getGraph();
+        Integer id = getId(graph, module);
+        if (id == null) {
+            return Collections.emptyList();
+        }
+        List<OdooModule> result = new ArrayList<>();
+        for (int depend : graph.myDepends[id]) {
+            OdooModule dependModule = getModule(graph, depend);
+            if (dependModule != null) {
+                result.add(dependModule);
+            }
+        }
+        return result;
+    }
+
+    @NotNull
+    public List<OdooModule> getFlattenedDependsGraph(@NotNull OdooModule module) {
+        Graph graph = getGraph();
+        Integer id = getId(graph, module);
+        if (id == null) {
+            return Collections.singletonList(module);
+        }
+        BitSet closure = graph.myClosures[id];
+        List<OdooModule> result = new ArrayList<>(closure.cardinality());
+        result.add(module);
+        int[] order = graph.myOrder;
+        for (int i = order.length - 1; i >= 0; i--) {
+            int depend = order[i];
+            if (depend != id && closure.get(depend)) {
+                OdooModule dependModule = getModule(graph, depend);
+                if (dependModule != null) {
+                    result.add(dependModule);
+                }
+            }
+        }
+        return result;
+    }
+
+    public int getLoadSequence(@NotNull OdooModule module,
+                               @Nullable VirtualFile file) {
+        Graph graph = getGraph();
+        if (file != null) {
+            Integer sequence = graph.myFileSequences.get(file);
+            if (sequence != null) {
+                return sequence;
+            }
+        }
+        Integer id = getId(graph, module);
+        return id != null ? graph.myModuleSequences[id] : -1;
+    }
+
+    public boolean isDependOn(@NotNull OdooModule module,
+                              @NotNull OdooModule depend) {
+        Graph graph = getGraph();
+        Integer id = getId(graph, module);
+        Integer dependId = getId(graph, depend);
+        return id != null && dependId != null && !id.equals(dependId) && graph.myClosures[id].get(dependId);
+    }
+
+    private static class Graph {
+        private final long myStamp;
+        private final VirtualFile[] myDirectories;
+        private final OdooModule[] myModules;
+        private final Map<VirtualFile, Integer> myIds;
+        private final Map<String, int[]> myNames;
+        private final Map<VirtualFile, Map<String, Integer>> myPartitions;
+        private final int[][] myDepends;
+        private final BitSet[] myClosures;
+        private final int[] myOrder;
+        private final int[] myRanks;
+        private final VirtualFile[][] myDataFiles;
+        private final Map<VirtualFile, Integer> myFileSequences;
+        private final int[] myModuleSequences;
+
+        private Graph(long stamp,
+                      @NotNull VirtualFile[] directories,
+                      @NotNull OdooModule[] modules,
+                      @NotNull Map<VirtualFile, Integer> ids,
+                      @NotNull Map<String, int[]> names,
+                      @NotNull Map<VirtualFile, Map<String, Integer>> partitions,
+                      @NotNull int[][] depends,
+                      @NotNull BitSet[] closures,
+                      @NotNull int[] order,
+                      @NotNull int[] ranks,
+                      @NotNull VirtualFile[][] dataFiles,
+                      @NotNull Map<VirtualFile, Integer> fileSequences,
+                      @NotNull int[] moduleSequences) {
+            myStamp = stamp;
+            myDirectories = directories;
+            myModules = modules;
+            myIds = ids;
+            myNames = names;
+            myPartitions = partitions;
+            myDepends = depends;
+            myClosures = closures;
+            myOrder = order;
+            myRanks = ranks;
+            myDataFiles = dataFiles;
+            myFileSequences = fileSequences;
+            myModuleSequences = moduleSequences;
+        }
+
+        private int size() {
+            return myModules.length;
+        }
+    }
+}
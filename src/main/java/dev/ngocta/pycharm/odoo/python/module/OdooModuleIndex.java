@@ -1,10 +1,12 @@
 package dev.ngocta.pycharm.odoo.python.module;
 
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Ref;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
 import com.jetbrains.python.PythonFileType;
@@ -15,28 +17,28 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
-public class OdooModuleIndex extends ScalarIndexExtension<String> {
-    public static final @NotNull ID<String, Void> NAME = ID.create("odoo.module");
+public class OdooModuleIndex extends FileBasedIndexExtension<String, OdooManifestInfo> {
+    public static final @NotNull ID<String, OdooManifestInfo> NAME = ID.create("odoo.module");
 
     @NotNull
     @Override
-    public ID<String, Void> getName() {
+    public ID<String, OdooManifestInfo> getName() {
         return NAME;
     }
 
     @NotNull
     @Override
-    public DataIndexer<String, Void, FileContent> getIndexer() {
+    public DataIndexer<String, OdooManifestInfo, FileContent> getIndexer() {
         return inputData -> {
-            Map<String, Void> result = new HashMap<>();
-            VirtualFile file = inputData.getFile();
-            if (OdooNames.MANIFEST_FILE_NAME.equals(file.getName())) {
-                VirtualFile dir = file.getParent();
-                if (OdooModuleUtils.isOdooModuleDirectory(dir)) {
-                    result.put(dir.getName(), null);
-                }
+            VirtualFile dir = inputData.getFile().getParent();
+            if (dir == null) {
+                return Collections.emptyMap();
             }
-            return result;
+            OdooManifestInfo info = OdooManifestInfo.parseManifest(inputData.getContentAsText());
+            if (info == null) {
+                info = OdooManifestInfo.EMPTY;
+            }
+            return Collections.singletonMap(dir.getName(), info);
         };
     }
 
@@ -46,15 +48,26 @@ public class OdooModuleIndex extends ScalarIndexExtension<String> {
         return EnumeratorStringDescriptor.INSTANCE;
     }
 
+    @NotNull
+    @Override
+    public DataExternalizer<OdooManifestInfo> getValueExternalizer() {
+        return OdooManifestInfoExternalizer.INSTANCE;
+    }
+
     @Override
     public int getVersion() {
-        return 1;
+        return 4;
     }
 
     @NotNull
     @Override
     public FileBasedIndex.InputFilter getInputFilter() {
-        return new DefaultFileTypeSpecificInputFilter(PythonFileType.INSTANCE);
+        return new DefaultFileTypeSpecificInputFilter(PythonFileType.INSTANCE) {
+            @Override
+            public boolean acceptInput(@NotNull VirtualFile file) {
+                return OdooNames.MANIFEST_FILE_NAME.equals(file.getName()) && OdooModuleUtils.isOdooModuleDirectory(file.getParent());
+            }
+        };
     }
 
     @Override
@@ -62,15 +75,27 @@ public class OdooModuleIndex extends ScalarIndexExtension<String> {
         return true;
     }
 
+    @Nullable
+    public static OdooManifestInfo getManifestInfo(@NotNull VirtualFile manifest,
+                                                   @NotNull Project project) {
+        VirtualFile dir = manifest.getParent();
+        if (dir == null) {
+            return null;
+        }
+        Ref<OdooManifestInfo> ref = Ref.create();
+        FileBasedIndex.getInstance().processValues(NAME, dir.getName(), manifest, (file, value) -> {
+            ref.set(value);
+            return false;
+        }, GlobalSearchScope.allScope(project));
+        return ref.get();
+    }
+
     @Nullable
     public static OdooModule getOdooModuleByName(@NotNull String moduleName,
                                                  @NotNull Project project,
                                                  @NotNull GlobalSearchScope scope) {
-        FileBasedIndex fileIndex = FileBasedIndex.getInstance();
-        Collection<VirtualFile> files = fileIndex.getContainingFiles(NAME, moduleName, scope);
-        for (VirtualFile file : files) {
-            OdooModule module = OdooModuleUtils.getContainingOdooModule(file, project);
-            if (module != null) {
+        for (OdooModule module : OdooModuleGraph.getInstance(project).getModulesByName(moduleName)) {
+            if (scope.contains(module.getDirectory().getVirtualFile())) {
                 return module;
             }
         }
@@ -80,6 +105,10 @@ public class OdooModuleIndex extends ScalarIndexExtension<String> {
     @Nullable
     public static OdooModule getOdooModuleByName(@NotNull String moduleName,
                                                  @NotNull PsiElement anchor) {
+        List<VirtualFile> addonsPaths = OdooAddonsPathSettings.getAddonsPaths(anchor);
+        if (!addonsPaths.isEmpty()) {
+            return OdooModuleGraph.getInstance(anchor.getProject()).getModule(moduleName, addonsPaths);
+        }
         return getOdooModuleByName(moduleName, anchor.getProject(), OdooUtils.getProjectModuleWithDependenciesScope(anchor));
     }
 
@@ -87,10 +116,9 @@ public class OdooModuleIndex extends ScalarIndexExtension<String> {
     public static List<OdooModule> getAllOdooModules(@NotNull Project project,
                                                      @NotNull GlobalSearchScope scope) {
         List<OdooModule> modules = new LinkedList<>();
-        Collection<String> moduleNames = FileBasedIndex.getInstance().getAllKeys(NAME, project);
-        for (String name : moduleNames) {
-            OdooModule module = getOdooModuleByName(name, project, scope);
-            if (module != null) {
+        Set<String> moduleNames = new HashSet<>();
+        for (OdooModule module : OdooModuleGraph.getInstance(project).getModules()) {
+            if (scope.contains(module.getDirectory().getVirtualFile()) && moduleNames.add(module.getName())) {
                 modules.add(module);
             }
         }
@@ -99,6 +127,10 @@ public class OdooModuleIndex extends ScalarIndexExtension<String> {
 
     @NotNull
     public static List<OdooModule> getAvailableOdooModules(@NotNull PsiElement anchor) {
+        List<VirtualFile> addonsPaths = OdooAddonsPathSettings.getAddonsPaths(anchor);
+        if (!addonsPaths.isEmpty()) {
+            return OdooModuleGraph.getInstance(anchor.getProject()).getModules(addonsPaths);
+        }
         return getAllOdooModules(anchor.getProject(), OdooUtils.getProjectModuleWithDependenciesScope(anchor));
     }
 }
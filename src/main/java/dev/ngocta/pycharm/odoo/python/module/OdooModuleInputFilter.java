@@ -1,17 +1,23 @@
-package dev.ngocta.pycharm.odoo.python.model;
+package dev.ngocta.pycharm.odoo.python.module;
 
 import com.intellij.openapi.fileTypes.FileType;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.util.Consumer;
 import com.intellij.util.indexing.FileBasedIndex;
-import com.jetbrains.python.PythonFileType;
-import dev.ngocta.pycharm.odoo.python.module.OdooModuleUtils;
 import org.jetbrains.annotations.NotNull;
 
-public class OdooModelInputFilter implements FileBasedIndex.FileTypeSpecificInputFilter {
+public class OdooModuleInputFilter implements FileBasedIndex.FileTypeSpecificInputFilter {
+    private final FileType[] myFileTypes;
+
+    public OdooModuleInputFilter(@NotNull FileType... fileTypes) {
+        myFileTypes = fileTypes;
+    }
+
     @Override
     public void registerFileTypesUsedForIndexing(@NotNull Consumer<? super FileType> fileTypeSink) {
-        fileTypeSink.consume(PythonFileType.INSTANCE);
+        for (FileType fileType : myFileTypes) {
+            fileTypeSink.consume(fileType);
+        }
     }
 
     @Override
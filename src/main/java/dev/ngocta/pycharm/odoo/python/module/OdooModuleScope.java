@@ -0,0 +1,78 @@
+package dev.ngocta.pycharm.odoo.python.module;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+public class OdooModuleScope extends GlobalSearchScope {
+    private final Set<VirtualFile> myRoots;
+
+    public OdooModuleScope(@NotNull Project project,
+                           @NotNull Collection<VirtualFile> roots) {
+        super(project);
+        myRoots = new HashSet<>(roots);
+    }
+
+    @NotNull
+    public static OdooModuleScope create(@NotNull Project project,
+                                         @NotNull Collection<OdooModule> modules) {
+        Set<VirtualFile> roots = new HashSet<>();
+        for (OdooModule module : modules) {
+            roots.add(module.getDirectory().getVirtualFile());
+        }
+        return new OdooModuleScope(project, roots);
+    }
+
+    @NotNull
+    public Set<VirtualFile> getRoots() {
+        return myRoots;
+    }
+
+    @Override
+    public boolean contains(@NotNull VirtualFile file) {
+        VirtualFile dir = file;
+        while (dir != null) {
+            if (myRoots.contains(dir)) {
+                return true;
+            }
+            dir = dir.getParent();
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isSearchInModuleContent(@NotNull Module aModule) {
+        return true;
+    }
+
+    @Override
+    public boolean isSearchInLibraries() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OdooModuleScope that = (OdooModuleScope) o;
+        return myRoots.equals(that.myRoots);
+    }
+
+    @Override
+    public int calcHashCode() {
+        return myRoots.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "OdooModuleScope{" +
+                "myRoots=" + myRoots +
+                '}';
+    }
+}
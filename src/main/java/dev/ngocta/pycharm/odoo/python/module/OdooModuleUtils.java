@@ -31,13 +31,7 @@ public class OdooModuleUtils {
 
     @Nullable
     public static VirtualFile getContainingOdooModuleDirectory(@Nullable VirtualFile file) {
-        while (file != null) {
-            if (isOdooModuleDirectory(file)) {
-                return file;
-            }
-            file = file.getParent();
-        }
-        return null;
+        return OdooModuleDirectoryCache.getInstance().getContainingOdooModuleDirectory(file);
     }
 
     public static boolean isOdooModuleDirectory(@Nullable VirtualFile dir) {
@@ -99,29 +93,24 @@ public class OdooModuleUtils {
     @NotNull
     public static <T extends PsiElement> List<T> sortElementByOdooModuleDependOrder(@NotNull Collection<T> elements,
                                                                                     boolean reverse) {
-        Map<OdooModule, List<T>> module2Elements = new LinkedHashMap<>();
+        List<T> moduleElements = new ArrayList<>(elements.size());
+        long[] keys = new long[elements.size()];
         for (T element : elements) {
             OdooModule module = getContainingOdooModule(element);
             if (module != null) {
-                module2Elements.computeIfAbsent(module, k -> new LinkedList<>()).add(element);
+                PsiFile file = OdooUtils.getOriginalContextFile(element);
+                VirtualFile virtualFile = file != null ? file.getVirtualFile() : null;
+                int sequence = OdooModuleGraph.getInstance(module.getProject()).getLoadSequence(module, virtualFile);
+                keys[moduleElements.size()] = ((long) (Integer.MAX_VALUE - sequence - 1) << 32) | moduleElements.size();
+                moduleElements.add(element);
             }
         }
-        Map<OdooModule, Integer> module2DependsCount = new HashMap<>();
-        for (OdooModule module : module2Elements.keySet()) {
-            module2DependsCount.put(module, module.getFlattenedDependsGraph().size());
-        }
-        List<OdooModule> sortedModules = new LinkedList<>(module2DependsCount.keySet());
-        sortedModules.sort((e1, e2) -> {
-            int count1 = module2DependsCount.get(e1);
-            int count2 = module2DependsCount.get(e2);
-            return count2 - count1;
-        });
-        List<T> sortedElements = new LinkedList<>();
-        for (OdooModule module : sortedModules) {
-            sortedElements.addAll(module2Elements.get(module));
-        }
-        if (reverse) {
-            Collections.reverse(sortedElements);
+        int size = moduleElements.size();
+        Arrays.sort(keys, 0, size);
+        List<T> sortedElements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long key = keys[reverse ? size - 1 - i : i];
+            sortedElements.add(moduleElements.get((int) key));
         }
         return sortedElements;
     }
@@ -163,14 +152,11 @@ public class OdooModuleUtils {
 
     @NotNull
     public static GlobalSearchScope getSystemWideOdooModulesScope(@NotNull PsiElement anchor) {
-        List<GlobalSearchScope> scopes = new LinkedList<>();
-        for (OdooModule module : getSystemWideOdooModules(anchor)) {
-            scopes.add(module.getOdooModuleScope());
-        }
-        if (scopes.isEmpty()) {
+        Collection<OdooModule> modules = getSystemWideOdooModules(anchor);
+        if (modules.isEmpty()) {
             return GlobalSearchScope.EMPTY_SCOPE;
         }
-        return GlobalSearchScope.union(scopes);
+        return OdooModuleScope.create(anchor.getProject(), modules);
     }
 
     @NotNull
@@ -1,6 +1,5 @@
 package dev.ngocta.pycharm.odoo.xml;
 
-import com.intellij.ide.highlighter.XmlFileType;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
@@ -8,11 +7,6 @@ import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.util.Processor;
-import com.intellij.util.indexing.*;
-import com.intellij.util.io.DataExternalizer;
-import com.intellij.util.io.EnumeratorIntegerDescriptor;
-import com.intellij.util.io.EnumeratorStringDescriptor;
-import com.intellij.util.io.KeyDescriptor;
 import dev.ngocta.pycharm.odoo.python.module.OdooModule;
 import dev.ngocta.pycharm.odoo.python.module.OdooModuleUtils;
 import dev.ngocta.pycharm.odoo.xml.dom.OdooDomJSTemplate;
@@ -21,73 +15,11 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
 
-
-public class OdooJSTemplateIndex extends FileBasedIndexExtension<String, Integer> {
-    public static final @NotNull ID<String, Integer> NAME = ID.create("odoo.js.template");
+public class OdooJSTemplateIndex {
     public static final int VALUE_IS_NAME = 1;
     public static final int VALUE_IS_QUALIFIED_NAME = 2;
     public static final int VALUE_IS_NAME_AND_QUALIFIED_NAME = 3;
 
-    @NotNull
-    @Override
-    public ID<String, Integer> getName() {
-        return NAME;
-    }
-
-    @NotNull
-    @Override
-    public DataIndexer<String, Integer, FileContent> getIndexer() {
-        return inputData -> {
-            Map<String, Integer> result = new HashMap<>();
-            PsiFile file = PsiManager.getInstance(inputData.getProject()).findFile(inputData.getFile());
-            OdooDomJSTemplateFile templateFile = OdooXmlUtils.getOdooDomJSTemplateFile(file);
-            if (templateFile == null) {
-                return result;
-            }
-            for (OdooDomJSTemplate template : templateFile.getAllTemplates()) {
-                String name = template.getName();
-                String qualifiedName = template.getQualifiedName();
-                if (name != null && qualifiedName != null) {
-                    if (name.equals(qualifiedName)) {
-                        result.put(name, VALUE_IS_NAME_AND_QUALIFIED_NAME);
-                    } else {
-                        result.put(name, VALUE_IS_NAME);
-                        result.put(qualifiedName, VALUE_IS_QUALIFIED_NAME);
-                    }
-                }
-            }
-            return result;
-        };
-    }
-
-    @NotNull
-    @Override
-    public KeyDescriptor<String> getKeyDescriptor() {
-        return EnumeratorStringDescriptor.INSTANCE;
-    }
-
-    @Override
-    @NotNull
-    public DataExternalizer<Integer> getValueExternalizer() {
-        return EnumeratorIntegerDescriptor.INSTANCE;
-    }
-
-    @Override
-    public int getVersion() {
-        return 3;
-    }
-
-    @NotNull
-    @Override
-    public FileBasedIndex.InputFilter getInputFilter() {
-        return new DefaultFileTypeSpecificInputFilter(XmlFileType.INSTANCE);
-    }
-
-    @Override
-    public boolean dependsOnFileContent() {
-        return true;
-    }
-
     public static boolean isRightValue(@NotNull Integer value,
                                        boolean isQualified) {
         return (isQualified && (value & VALUE_IS_QUALIFIED_NAME) != 0)
@@ -98,11 +30,10 @@ public class OdooJSTemplateIndex extends FileBasedIndexExtension<String, Integer
                                                      @NotNull Project project,
                                                      @NotNull Processor<String> processor,
                                                      boolean isQualified) {
-        FileBasedIndex index = FileBasedIndex.getInstance();
-        Collection<String> allNames = index.getAllKeys(NAME, project);
+        Collection<String> allNames = OdooXmlFileSummaryIndex.getAllKeys(OdooXmlFileSummaryIndex.TEMPLATE, project);
         for (String name : allNames) {
-            index.processValues(NAME, name, null, (file, value) -> {
-                if (isRightValue(value, isQualified)) {
+            OdooXmlFileSummaryIndex.processSummaries(OdooXmlFileSummaryIndex.TEMPLATE, name, (file, value) -> {
+                if (isRightValue(value.getFlags(), isQualified)) {
                     processor.process(name);
                 }
                 return false;
@@ -135,8 +66,8 @@ public class OdooJSTemplateIndex extends FileBasedIndexExtension<String, Integer
                                                               @NotNull Project project,
                                                               boolean isQualified) {
         List<VirtualFile> files = new LinkedList<>();
-        FileBasedIndex.getInstance().processValues(NAME, name, null, (file, value) -> {
-            if (isRightValue(value, isQualified))
+        OdooXmlFileSummaryIndex.processSummaries(OdooXmlFileSummaryIndex.TEMPLATE, name, (file, value) -> {
+            if (isRightValue(value.getFlags(), isQualified))
                 files.add(file);
             return true;
         }, scope);
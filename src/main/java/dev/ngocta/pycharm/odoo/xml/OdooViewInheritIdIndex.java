@@ -1,16 +1,11 @@
 package dev.ngocta.pycharm.odoo.xml;
 
-import com.intellij.ide.highlighter.XmlFileType;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.util.Processor;
-import com.intellij.util.indexing.*;
-import com.intellij.util.io.EnumeratorStringDescriptor;
-import com.intellij.util.io.KeyDescriptor;
-import dev.ngocta.pycharm.odoo.data.OdooRecord;
 import dev.ngocta.pycharm.odoo.data.OdooRecordViewInfo;
 import dev.ngocta.pycharm.odoo.python.module.OdooModule;
 import dev.ngocta.pycharm.odoo.python.module.OdooModuleUtils;
@@ -21,87 +16,13 @@ import dev.ngocta.pycharm.odoo.xml.dom.OdooDomRecordLike;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
-public class OdooViewInheritIdIndex extends ScalarIndexExtension<String> {
-    private static final ID<String, Void> NAME = ID.create("odoo.view.inherit.id");
-
-    @Override
-    @NotNull
-    public ID<String, Void> getName() {
-        return NAME;
-    }
-
-    @Override
-    @NotNull
-    public DataIndexer<String, Void, FileContent> getIndexer() {
-        return inputData -> {
-            Map<String, Void> result = new HashMap<>();
-            PsiFile psiFile = PsiManager.getInstance(inputData.getProject()).findFile(inputData.getFile());
-            OdooModule odooModule = OdooModuleUtils.getContainingOdooModule(psiFile);
-            if (odooModule == null) {
-                return result;
-            }
-            OdooDomDataFile dataFile = OdooXmlUtils.getOdooDataDomFile(psiFile);
-            if (dataFile != null) {
-                List<OdooDomRecordLike> items = dataFile.getAllRecordLikeItems();
-                for (OdooDomRecordLike item : items) {
-                    OdooRecord record = item.getRecord();
-                    if (record != null && record.getExtraInfo() instanceof OdooRecordViewInfo) {
-                        OdooRecordViewInfo info = (OdooRecordViewInfo) record.getExtraInfo();
-                        if (info.getInheritId() != null) {
-                            String inheritId = info.getInheritId();
-                            if (!inheritId.contains(".")) {
-                                inheritId = odooModule.getName() + "." + inheritId;
-                            }
-                            result.put(inheritId, null);
-                        }
-                    }
-                }
-            }
-
-            OdooDomJSTemplateFile templateFile = OdooXmlUtils.getOdooDomJSTemplateFile(psiFile);
-            if (templateFile != null) {
-                for (OdooDomJSTemplate template : templateFile.getAllTemplates()) {
-                    String inherit = template.getInheritName();
-                    if (inherit != null) {
-                        result.put(inherit, null);
-                    }
-                }
-            }
-            return result;
-        };
-    }
-
-    @Override
-    @NotNull
-    public KeyDescriptor<String> getKeyDescriptor() {
-        return EnumeratorStringDescriptor.INSTANCE;
-    }
-
-    @Override
-    public int getVersion() {
-        return 3;
-    }
-
-    @Override
-    @NotNull
-    public FileBasedIndex.InputFilter getInputFilter() {
-        return new DefaultFileTypeSpecificInputFilter(XmlFileType.INSTANCE);
-    }
-
-    @Override
-    public boolean dependsOnFileContent() {
-        return true;
-    }
 
+public class OdooViewInheritIdIndex {
     public static boolean processChildrenViewRecords(@NotNull String parentViewId,
                                                      @NotNull Processor<OdooDomRecordLike> processor,
                                                      @NotNull GlobalSearchScope scope,
                                                      @NotNull Project project) {
-        Collection<VirtualFile> files = FileBasedIndex.getInstance().getContainingFiles(NAME, parentViewId, scope);
+        Collection<VirtualFile> files = OdooXmlFileSummaryIndex.getContainingFiles(OdooXmlFileSummaryIndex.INHERIT, parentViewId, scope);
         PsiManager psiManager = PsiManager.getInstance(project);
         for (VirtualFile file : files) {
             PsiFile psiFile = psiManager.findFile(file);
@@ -137,7 +58,7 @@ public class OdooViewInheritIdIndex extends ScalarIndexExtension<String> {
                                                      @NotNull Processor<OdooDomJSTemplate> processor,
                                                      @NotNull GlobalSearchScope scope,
                                                      @NotNull Project project) {
-        Collection<VirtualFile> files = FileBasedIndex.getInstance().getContainingFiles(NAME, parentTemplateName, scope);
+        Collection<VirtualFile> files = OdooXmlFileSummaryIndex.getContainingFiles(OdooXmlFileSummaryIndex.INHERIT, parentTemplateName, scope);
         PsiManager psiManager = PsiManager.getInstance(project);
         for (VirtualFile file : files) {
             PsiFile psiFile = psiManager.findFile(file);
@@ -0,0 +1,42 @@
+package dev.ngocta.pycharm.odoo.xml;
+
+import dev.ngocta.pycharm.odoo.data.OdooRecord;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+public class OdooXmlFileSummary {
+    public static final OdooXmlFileSummary EMPTY = new OdooXmlFileSummary(null, 0);
+
+    private final OdooRecord myRecord;
+    private final int myFlags;
+
+    public OdooXmlFileSummary(@Nullable OdooRecord record,
+                              int flags) {
+        myRecord = record;
+        myFlags = flags;
+    }
+
+    @Nullable
+    public OdooRecord getRecord() {
+        return myRecord;
+    }
+
+    public int getFlags() {
+        return myFlags;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OdooXmlFileSummary that = (OdooXmlFileSummary) o;
+        return myFlags == that.myFlags &&
+                Objects.equals(myRecord, that.myRecord);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(myRecord, myFlags);
+    }
+}
@@ -0,0 +1,35 @@
+package dev.ngocta.pycharm.odoo.xml;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import dev.ngocta.pycharm.odoo.data.OdooRecord;
+import dev.ngocta.pycharm.odoo.data.OdooRecordExternalizer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+class OdooXmlFileSummaryExternalizer implements DataExternalizer<OdooXmlFileSummary> {
+    public static final OdooXmlFileSummaryExternalizer INSTANCE = new OdooXmlFileSummaryExternalizer();
+
+    @Override
+    public void save(@NotNull DataOutput out,
+                     OdooXmlFileSummary value) throws IOException {
+        out.writeBoolean(value.getRecord() != null);
+        if (value.getRecord() != null) {
+            OdooRecordExternalizer.INSTANCE.save(out, value.getRecord());
+        }
+        DataInputOutputUtil.writeINT(out, value.getFlags());
+    }
+
+    @Override
+    public OdooXmlFileSummary read(@NotNull DataInput in) throws IOException {
+        OdooRecord record = in.readBoolean() ? OdooRecordExternalizer.INSTANCE.read(in) : null;
+        int flags = DataInputOutputUtil.readINT(in);
+        if (record == null && flags == 0) {
+            return OdooXmlFileSummary.EMPTY;
+        }
+        return new OdooXmlFileSummary(record, flags);
+    }
+}
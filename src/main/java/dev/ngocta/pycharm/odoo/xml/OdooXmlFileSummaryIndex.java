@@ -0,0 +1,222 @@
+package dev.ngocta.pycharm.odoo.xml;
+
+import com.intellij.ide.highlighter.XmlFileType;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.xml.XmlFile;
+import com.intellij.psi.xml.XmlTag;
+import com.intellij.util.ObjectUtils;
+import com.intellij.util.Processor;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.intellij.util.xml.DomElement;
+import com.intellij.util.xml.DomFileElement;
+import com.intellij.util.xml.DomManager;
+import dev.ngocta.pycharm.odoo.data.OdooRecord;
+import dev.ngocta.pycharm.odoo.data.OdooRecordViewInfo;
+import dev.ngocta.pycharm.odoo.python.module.OdooModuleInputFilter;
+import dev.ngocta.pycharm.odoo.python.module.OdooModuleUtils;
+import dev.ngocta.pycharm.odoo.xml.dom.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+public abstract class OdooXmlFileSummaryIndex extends FileBasedIndexExtension<String, OdooXmlFileSummary> {
+    public static final @NotNull ID<String, OdooXmlFileSummary> RECORD = ID.create("odoo.xml.record");
+    public static final @NotNull ID<String, OdooXmlFileSummary> INHERIT = ID.create("odoo.xml.inherit");
+    public static final @NotNull ID<String, OdooXmlFileSummary> TEMPLATE = ID.create("odoo.xml.template");
+    public static final @NotNull ID<String, OdooXmlFileSummary> MODULE = ID.create("odoo.xml.module");
+    private static final Key<Map<ID<String, OdooXmlFileSummary>, Map<String, OdooXmlFileSummary>>> SUMMARIES = Key.create("odoo.xml.summaries");
+
+    private final ID<String, OdooXmlFileSummary> myKind;
+
+    protected OdooXmlFileSummaryIndex(@NotNull ID<String, OdooXmlFileSummary> kind) {
+        myKind = kind;
+    }
+
+    @NotNull
+    @Override
+    public ID<String, OdooXmlFileSummary> getName() {
+        return myKind;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, OdooXmlFileSummary, FileContent> getIndexer() {
+        return inputData -> getSummaries(inputData).getOrDefault(myKind, Collections.emptyMap());
+    }
+
+    @NotNull
+    private static Map<ID<String, OdooXmlFileSummary>, Map<String, OdooXmlFileSummary>> getSummaries(@NotNull FileContent inputData) {
+        Map<ID<String, OdooXmlFileSummary>, Map<String, OdooXmlFileSummary>> summaries = inputData.getUserData(SUMMARIES);
+        if (summaries == null) {
+            summaries = computeSummaries(inputData);
+            inputData.putUserData(SUMMARIES, summaries);
+        }
+        return summaries;
+    }
+
+    @NotNull
+    private static Map<ID<String, OdooXmlFileSummary>, Map<String, OdooXmlFileSummary>> computeSummaries(@NotNull FileContent inputData) {
+        Map<ID<String, OdooXmlFileSummary>, Map<String, OdooXmlFileSummary>> result = new HashMap<>();
+        PsiFile psiFile = PsiManager.getInstance(inputData.getProject()).findFile(inputData.getFile());
+        if (!(psiFile instanceof XmlFile)) {
+            return result;
+        }
+        DomFileElement<DomElement> fileElement = DomManager.getDomManager(psiFile.getProject()).getFileElement((XmlFile) psiFile);
+        DomElement root = fileElement != null ? fileElement.getRootElement() : null;
+        Map<String, OdooXmlFileSummary> records = new HashMap<>();
+        Map<String, OdooXmlFileSummary> inherits = new HashMap<>();
+        Map<String, OdooXmlFileSummary> templates = new HashMap<>();
+        Map<String, OdooXmlFileSummary> modules = new HashMap<>();
+        VirtualFile moduleDirectory = OdooModuleUtils.getContainingOdooModuleDirectory(inputData.getFile());
+        OdooDomDataFile dataFile = ObjectUtils.tryCast(root, OdooDomDataFile.class);
+        if (dataFile != null && moduleDirectory != null) {
+            String moduleName = moduleDirectory.getName();
+            for (OdooDomRecordLike item : dataFile.getAllRecordLikeItems()) {
+                OdooRecord record = item.getRecord();
+                if (record != null && !record.getQualifiedId().trim().isEmpty()) {
+                    XmlTag tag = item.getXmlTag();
+                    int offset = tag != null ? tag.getTextOffset() : -1;
+                    records.put(record.getQualifiedId(), new OdooXmlFileSummary(record.withoutDataFile().withOffset(offset), 0));
+                    modules.put(record.getOriginModule(), OdooXmlFileSummary.EMPTY);
+                    if (record.getExtraInfo() instanceof OdooRecordViewInfo) {
+                        String inheritId = ((OdooRecordViewInfo) record.getExtraInfo()).getInheritId();
+                        if (inheritId != null) {
+                            inherits.put(qualify(inheritId, moduleName), OdooXmlFileSummary.EMPTY);
+                        }
+                    }
+                }
+            }
+        }
+        OdooDomJSTemplateFile templateFile = ObjectUtils.tryCast(root, OdooDomJSTemplateFile.class);
+        if (templateFile != null) {
+            for (OdooDomJSTemplate template : templateFile.getAllTemplates()) {
+                String name = template.getName();
+                String qualifiedName = template.getQualifiedName();
+                if (name != null && qualifiedName != null) {
+                    putTemplate(templates, name, OdooJSTemplateIndex.VALUE_IS_NAME);
+                    putTemplate(templates, qualifiedName, OdooJSTemplateIndex.VALUE_IS_QUALIFIED_NAME);
+                }
+                String inherit = template.getInheritName();
+                if (inherit != null) {
+                    inherits.put(inherit, OdooXmlFileSummary.EMPTY);
+                }
+            }
+        }
+        result.put(RECORD, records);
+        result.put(INHERIT, inherits);
+        result.put(TEMPLATE, templates);
+        result.put(MODULE, modules);
+        return result;
+    }
+
+    private static void putTemplate(@NotNull Map<String, OdooXmlFileSummary> templates,
+                                    @NotNull String name,
+                                    int flags) {
+        OdooXmlFileSummary summary = templates.get(name);
+        if (summary != null) {
+            flags |= summary.getFlags();
+        }
+        templates.put(name, new OdooXmlFileSummary(null, flags));
+    }
+
+    @NotNull
+    private static String qualify(@NotNull String id,
+                                  @NotNull String moduleName) {
+        return id.contains(".") ? id : moduleName + "." + id;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<OdooXmlFileSummary> getValueExternalizer() {
+        return OdooXmlFileSummaryExternalizer.INSTANCE;
+    }
+
+    @Override
+    public int getVersion() {
+        return 7;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return new OdooModuleInputFilter(XmlFileType.INSTANCE);
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    public static boolean processSummaries(@NotNull ID<String, OdooXmlFileSummary> kind,
+                                           @NotNull String key,
+                                           @NotNull FileBasedIndex.ValueProcessor<OdooXmlFileSummary> processor,
+                                           @NotNull GlobalSearchScope scope) {
+        return FileBasedIndex.getInstance().processValues(kind, key, null, processor, scope);
+    }
+
+    @NotNull
+    public static Collection<VirtualFile> getContainingFiles(@NotNull ID<String, OdooXmlFileSummary> kind,
+                                                             @NotNull String key,
+                                                             @NotNull GlobalSearchScope scope) {
+        return FileBasedIndex.getInstance().getContainingFiles(kind, key, scope);
+    }
+
+    @NotNull
+    public static Collection<String> getAllKeys(@NotNull ID<String, OdooXmlFileSummary> kind,
+                                                @NotNull Project project) {
+        return FileBasedIndex.getInstance().getAllKeys(kind, project);
+    }
+
+    public static boolean processAllKeys(@NotNull ID<String, OdooXmlFileSummary> kind,
+                                         @NotNull Processor<String> processor,
+                                         @NotNull GlobalSearchScope scope,
+                                         @Nullable IdFilter filter) {
+        return FileBasedIndex.getInstance().processAllKeys(kind, processor, scope, filter);
+    }
+
+    @NotNull
+    public static Map<String, OdooXmlFileSummary> getFileData(@NotNull ID<String, OdooXmlFileSummary> kind,
+                                                              @NotNull VirtualFile file,
+                                                              @NotNull Project project) {
+        return FileBasedIndex.getInstance().getFileData(kind, file, project);
+    }
+
+    public static class Record extends OdooXmlFileSummaryIndex {
+        public Record() {
+            super(RECORD);
+        }
+    }
+
+    public static class Inherit extends OdooXmlFileSummaryIndex {
+        public Inherit() {
+            super(INHERIT);
+        }
+    }
+
+    public static class Template extends OdooXmlFileSummaryIndex {
+        public Template() {
+            super(TEMPLATE);
+        }
+    }
+
+    public static class Module extends OdooXmlFileSummaryIndex {
+        public Module() {
+            super(MODULE);
+        }
+    }
+}
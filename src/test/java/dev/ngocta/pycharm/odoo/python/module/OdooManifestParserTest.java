@@ -0,0 +1,137 @@
+package dev.ngocta.pycharm.odoo.python.module;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class OdooManifestParserTest {
+    @Test
+    public void testSimpleManifest() {
+        OdooManifestInfo info = OdooManifestInfo.parseManifest("{\n" +
+                "    'name': 'Sales',\n" +
+                "    'version': '1.2',\n" +
+                "    'depends': ['base', 'mail'],\n" +
+                "    'data': ['views/sale_views.xml'],\n" +
+                "    'installable': True,\n" +
+                "    'auto_install': False,\n" +
+                "}\n");
+        assertNotNull(info);
+        assertEquals("Sales", info.getName());
+        assertEquals("1.2", info.getVersion());
+        assertEquals(Arrays.asList("base", "mail"), info.getDepends());
+        assertEquals(Collections.singletonList("views/sale_views.xml"), info.getData());
+        assertTrue(info.isInstallable());
+        assertFalse(info.isAutoInstall());
+    }
+
+    @Test
+    public void testComments() {
+        OdooManifestInfo info = OdooManifestInfo.parseManifest("# -*- coding: utf-8 -*-\n" +
+                "# Part of Odoo. See LICENSE file for full copyright and licensing details.\n" +
+                "{\n" +
+                "    # 'name': 'Commented',\n" +
+                "    'name': 'Sales',  # trailing comment, with comma\n" +
+                "    'depends': [\n" +
+                "        'base',  # core\n" +
+                "        # 'web',\n" +
+                "        'mail',\n" +
+                "    ],\n" +
+                "}\n");
+        assertNotNull(info);
+        assertEquals("Sales", info.getName());
+        assertEquals(Arrays.asList("base", "mail"), info.getDepends());
+    }
+
+    @Test
+    public void testNestedDicts() {
+        OdooManifestInfo info = OdooManifestInfo.parseManifest("{\n" +
+                "    'name': 'Web',\n" +
+                "    'external_dependencies': {'python': ['lxml'], 'bin': []},\n" +
+                "    'assets': {\n" +
+                "        'web.assets_backend': [\n" +
+                "            'web/static/src/js/*.js',\n" +
+                "            ('include', 'web._assets_helpers'),\n" +
+                "        ],\n" +
+                "        'web.assets_qweb': ['web/static/src/xml/*.xml'],\n" +
+                "    },\n" +
+                "    'depends': ['base'],\n" +
+                "}\n");
+        assertNotNull(info);
+        assertEquals("Web", info.getName());
+        assertEquals(Collections.singletonList("base"), info.getDepends());
+        Map<String, List<String>> assets = info.getAssets();
+        assertEquals(Arrays.asList("web.assets_backend", "web.assets_qweb"), Arrays.asList(assets.keySet().toArray()));
+        assertEquals(Collections.singletonList("web/static/src/js/*.js"), assets.get("web.assets_backend"));
+    }
+
+    @Test
+    public void testStringConcatenation() {
+        OdooManifestInfo info = OdooManifestInfo.parseManifest("{\n" +
+                "    'name': 'Sales',\n" +
+                "    'summary': 'From quotations '\n" +
+                "               \"to invoices\",\n" +
+                "    'description': \"\"\"\n" +
+                "Long description, with 'quotes': and {braces}\n" +
+                "\"\"\",\n" +
+                "    'version': '1.' + '0',\n" +
+                "    'depends': ['base'],\n" +
+                "}\n");
+        assertNotNull(info);
+        assertEquals("From quotations to invoices", info.getSummary());
+        assertNull(info.getVersion());
+        assertEquals(Collections.singletonList("base"), info.getDepends());
+    }
+
+    @Test
+    public void testTrailingCommas() {
+        OdooManifestInfo info = OdooManifestInfo.parseManifest("{'name': 'Sales', 'depends': ['base', 'mail',], 'data': ('a.xml',),}");
+        assertNotNull(info);
+        assertEquals("Sales", info.getName());
+        assertEquals(Arrays.asList("base", "mail"), info.getDepends());
+        assertEquals(Collections.singletonList("a.xml"), info.getData());
+    }
+
+    @Test
+    public void testUnknownValuesAreSkipped() {
+        OdooManifestInfo info = OdooManifestInfo.parseManifest("{\n" +
+                "    'name': 'Sales',\n" +
+                "    'version': VERSION,\n" +
+                "    'post_init_hook': _post_init(1, {'a': 2}),\n" +
+                "    'depends': ['base'],\n" +
+                "}\n");
+        assertNotNull(info);
+        assertEquals("Sales", info.getName());
+        assertNull(info.getVersion());
+        assertEquals(Collections.singletonList("base"), info.getDepends());
+    }
+
+    @Test
+    public void testUnparseableInput() {
+        assertNull(OdooManifestInfo.parseManifest(""));
+        assertNull(OdooManifestInfo.parseManifest("# only a comment\n"));
+        assertNull(OdooManifestInfo.parseManifest("import os\nMANIFEST = dict(name='x')\n"));
+        assertNull(OdooManifestParser.parse("[1, 2, 3]"));
+    }
+
+    @Test
+    public void testTruncatedInput() {
+        OdooManifestInfo info = OdooManifestInfo.parseManifest("{'name': 'Sales', 'depends': ['base', 'ma");
+        assertNotNull(info);
+        assertEquals("Sales", info.getName());
+        assertEquals("base", info.getDepends().get(0));
+    }
+
+    @Test
+    public void testParenthesizedValues() {
+        OdooManifestInfo info = OdooManifestInfo.parseManifest("{'name': ('Sales'), 'depends': ('base'), 'data': ('a.xml', 'b.xml')}");
+        assertNotNull(info);
+        assertEquals("Sales", info.getName());
+        assertEquals(Collections.emptyList(), info.getDepends());
+        assertEquals(Arrays.asList("a.xml", "b.xml"), info.getData());
+    }
+}